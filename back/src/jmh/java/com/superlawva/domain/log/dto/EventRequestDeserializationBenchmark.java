@@ -0,0 +1,91 @@
+package com.superlawva.domain.log.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventRequestDTO 역직렬화 (POST /log/event, /log/events/batch 본문)
+ * - ObjectMapper 는 Spring Boot 와 같은 Jackson2ObjectMapperBuilder 기본값
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventRequestDeserializationBenchmark {
+
+    private static final String CLICK = """
+            {"type":"click","target":"button.submit","time":"2025-06-05T12:00:00",
+             "sessionId":7091234567812345678,"viewId":7091234567812349999,"userId":42,
+             "eventKey":"3f2a9c1e-7b4d-4e8a-9f61-0c5d2b7e8a13",
+             "meta":{"x":640,"y":388,"click_count":1,"interval_avg":0,"element":"button#contract-upload"}}""";
+    private static final String HOVER = """
+            {"type":"hover","target":"div.clause","time":"2025-06-05T12:00:01",
+             "sessionId":7091234567812345678,"viewId":7091234567812349999,
+             "meta":{"element":"div.clause:nth-child(3)","duration":1850}}""";
+    private static final String SCROLL = """
+            {"type":"scroll","target":"main","time":"2025-06-05T12:00:02",
+             "sessionId":7091234567812345678,"viewId":7091234567812349999,
+             "meta":{"scroll_percent":75}}""";
+    private static final String FORM = """
+            {"type":"form","target":"form#login","time":"2025-06-05T12:00:03",
+             "sessionId":7091234567812345678,"viewId":7091234567812349999,"userId":42,
+             "meta":{"form_name":"login","success":true,"status_code":200,"response_time":183}}""";
+    private static final String ERROR = """
+            {"type":"error","target":"window","time":"2025-06-05T12:00:04",
+             "sessionId":7091234567812345678,"viewId":7091234567812349999,
+             "meta":{"message":"TypeError: Cannot read properties of undefined (reading 'clauses')","path":"/contracts/analysis"}}""";
+
+    private ObjectReader single;
+    private ObjectReader batch;
+    private byte[] click;
+    private byte[] hover;
+    private byte[] form;
+    private byte[] batch100;
+
+    @Setup
+    public void setUp() {
+        var mapper = Jackson2ObjectMapperBuilder.json().build();
+        single = mapper.readerFor(EventRequestDTO.class);
+        batch = mapper.readerFor(new TypeReference<List<EventRequestDTO>>() {});
+
+        click = CLICK.getBytes(StandardCharsets.UTF_8);
+        hover = HOVER.getBytes(StandardCharsets.UTF_8);
+        form = FORM.getBytes(StandardCharsets.UTF_8);
+
+        // 실제 배치와 비슷한 비율 (scroll / hover 가 대부분)
+        String[] mix = {SCROLL, HOVER, SCROLL, CLICK, HOVER, SCROLL, FORM, HOVER, SCROLL, ERROR};
+        StringJoiner j = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 100; i++) j.add(mix[i % mix.length]);
+        batch100 = j.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public EventRequestDTO click() throws IOException {
+        return single.readValue(click);
+    }
+
+    @Benchmark
+    public EventRequestDTO hover() throws IOException {
+        return single.readValue(hover);
+    }
+
+    @Benchmark
+    public EventRequestDTO form() throws IOException {
+        return single.readValue(form);
+    }
+
+    @Benchmark
+    public List<EventRequestDTO> batch100() throws IOException {
+        return batch.readValue(batch100);
+    }
+}
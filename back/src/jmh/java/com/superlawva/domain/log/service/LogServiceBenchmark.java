@@ -0,0 +1,120 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.*;
+import com.superlawva.domain.log.dto.EventMeta;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import com.superlawva.domain.log.repository.*;
+import com.superlawva.domain.log.service.subtype.*;
+import com.superlawva.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogService.handleEvent 단건 경로 (엔티티 조립 → 서브 로그 dispatch → 메모리 집계)
+ * - JPA 리포지토리는 동적 프록시 stub (save 는 인자 반환), JDBC 는 쓰지 않음
+ * - 설정은 @DefaultValue 기본값
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogServiceBenchmark {
+
+    private static final int SESSIONS = 1024;
+
+    @Param({"click", "hover", "scroll", "form"})
+    String type;
+
+    private LogService logService;
+    private EventRequestDTO[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SubtypeProperties subtypeProps = defaults("log.subtype", SubtypeProperties.class);
+        EventSubtypeRegistry subtypes = new EventSubtypeRegistry(List.of(
+                new ClickLogHandler(stub(ClickLogRepository.class), null, subtypeProps),
+                new ErrorLogHandler(stub(ErrorLogRepository.class), null, subtypeProps),
+                new HoverLogHandler(stub(HoverLogRepository.class), null, subtypeProps),
+                new ScrollLogHandler(stub(ScrollLogRepository.class), null, subtypeProps),
+                new FormLogHandler(stub(FormLogRepository.class), null, subtypeProps),
+                new InputLogHandler(stub(InputLogRepository.class), null, subtypeProps),
+                new NaviLogHandler(stub(NaviLogRepository.class), null, subtypeProps)));
+
+        PageViewRepository viewRepo = stub(PageViewRepository.class);
+        ActiveViewCache activeViews = new ActiveViewCache(defaults("log.active-view", ActiveViewProperties.class), viewRepo);
+
+        logService = new LogService(
+                stub(SessionRepository.class), viewRepo, stub(EventRepository.class),
+                new EventJdbcRepository(null, null),
+                subtypes,
+                activeViews,
+                new Sessionizer(defaults("log.sessionizer", SessionizerProperties.class), null),
+                new RealtimeCounters(defaults("log.rollup", RollupProperties.class), null, subtypes),
+                new ClickHeatmap(defaults("log.heatmap", HeatmapProperties.class), null),
+                new EventSampler(defaults("log.sampling", SamplingProperties.class), null, null),
+                new LogMetrics(new SimpleMeterRegistry(), subtypes),
+                stub(UserRepository.class));
+
+        // 세션 / 페이지뷰는 열린 상태 (캐시 hit)
+        requests = new EventRequestDTO[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            long sessionId = 1_000_000L + i;
+            long viewId = 2_000_000L + i;
+            activeViews.opened(viewId, LocalDateTime.now(), "/contracts/" + (i % 16));
+            requests[i] = new EventRequestDTO(type, "target", LocalDateTime.now(), sessionId, viewId,
+                    i % 2 == 0 ? 42L : null, meta(type, i), null, null);
+        }
+    }
+
+    @Benchmark
+    public Long handleEvent() {
+        EventRequestDTO req = requests[next++ & (SESSIONS - 1)];
+        return logService.handleEvent(req);
+    }
+
+    private static EventMeta meta(String type, int i) {
+        return switch (type) {
+            case "click"  -> new EventMeta.ClickMeta(100 + i % 800, 50 + i % 600, 1, 0, "button#upload");
+            case "hover"  -> new EventMeta.HoverMeta("div.clause", 300 + i % 2000);
+            case "scroll" -> new EventMeta.ScrollMeta(i % 101);
+            case "form"   -> new EventMeta.FormMeta("login", true, 200, 120 + i % 80);
+            default       -> null;
+        };
+    }
+
+    /* -------- stub -------- */
+
+    private static <P> P defaults(String prefix, Class<P> type) {
+        return new Binder(new MapConfigurationPropertySource()).bindOrCreate(prefix, type);
+    }
+
+    /** save(x) → x, Optional 반환 메서드 → empty, 그 외 → null / 0 / false */
+    @SuppressWarnings("unchecked")
+    private static <R> R stub(Class<R> repo) {
+        return (R) Proxy.newProxyInstance(repo.getClassLoader(), new Class<?>[]{repo}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "save":     return args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "equals":   return proxy == args[0];
+                case "toString": return repo.getSimpleName() + "Stub";
+            }
+            Class<?> rt = method.getReturnType();
+            if (rt == Optional.class) return Optional.empty();
+            if (rt == boolean.class)  return false;
+            if (rt == int.class)      return 0;
+            if (rt == long.class)     return 0L;
+            return null;
+        });
+    }
+}
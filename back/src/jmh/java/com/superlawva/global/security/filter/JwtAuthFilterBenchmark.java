@@ -0,0 +1,77 @@
+package com.superlawva.global.security.filter;
+
+import com.superlawva.domain.user.entity.User;
+import com.superlawva.domain.user.repository.UserRepository;
+import com.superlawva.global.security.service.PrincipalCache;
+import com.superlawva.global.security.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthFilter (모든 요청마다 호출)
+ * - shouldNotFilter : 제외 경로 판정. "/" 를 prefix 로 비교하던 때는 모든 경로가 제외되어 항상 true 였음
+ *   → 그 시절 결과는 필터를 건너뛰는 비용만 잰 것, 지금은 /log/event, /users/42 가 false (필터 적용)
+ * - doFilterInternal : 제외되지 않은 요청의 실제 인증 비용 (Bearer 토큰 추출 + JwtUtil 캐시 hit + PrincipalCache hit)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+
+    private static final long KAKAO_ID = 1_000_000_000L;
+    private static final FilterChain CHAIN = (req, res) -> { };
+
+    @Param({"/swagger-ui/index.html", "/log/event", "/users/42"})
+    String path;
+
+    private JwtAuthFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(10_000, true);
+        PrincipalCache principals = new PrincipalCache(userRepository(), 10_000, Duration.ofMinutes(5));
+        filter = new JwtAuthFilter(jwtUtil, principals, new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(KAKAO_ID));
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() {
+        return filter.shouldNotFilter(request);
+    }
+
+    @Benchmark
+    public int doFilterInternal() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(request, response, CHAIN);
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    /* findAuthByKakaoId 만 응답하는 UserRepository (PrincipalCache 가 쓰는 유일한 메서드) */
+    private static UserRepository userRepository() {
+        UserRepository.AuthView view = new UserRepository.AuthView() {
+            @Override public Long getKakaoId()   { return KAKAO_ID; }
+            @Override public String getEmail()   { return "bench@superlawva.com"; }
+            @Override public User.Role getRole() { return User.Role.USER; }
+        };
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAuthByKakaoId")) return Optional.of(view);
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package com.superlawva.global.security.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급 / 검증
+ * - cache=hit  : 같은 토큰 반복 (검증 캐시 hit, 실제 요청 대부분)
+ * - cache=miss : 캐시 1칸 + 서로 다른 토큰 4096개 순환 → 매번 HMAC 검증 + claims 파싱
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final int TOKENS = 4096;
+
+    @Param({"hit", "miss"})
+    String cache;
+
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        boolean hit = "hit".equals(cache);
+        jwtUtil = new JwtUtil(hit ? 10_000 : 1, true);
+        tokens = new String[hit ? 1 : TOKENS];
+        for (int i = 0; i < tokens.length; i++) tokens[i] = jwtUtil.generateToken(1_000_000_000L + i);
+    }
+
+    private String token() {
+        return tokens[next++ & (tokens.length - 1)];
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1234567890L);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtil.validate(token());
+    }
+
+    @Benchmark
+    public Long extractKakaoId() {
+        return jwtUtil.extractKakaoId(token());
+    }
+}
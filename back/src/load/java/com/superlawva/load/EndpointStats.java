@@ -0,0 +1,81 @@
+package com.superlawva.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 단계(도착률)의 엔드포인트별 지연 / 처리량
+ * - 지연은 '보내려던 시각(intended)' 부터 응답 완료까지 (coordinated omission 보정)
+ * - HdrHistogram Recorder 에 µs 단위로 기록, 리포트는 ms
+ */
+final class EndpointStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger inflight = new AtomicInteger();   // 진행 중인 방문 / 호출 수
+
+    private static final class Endpoint {
+        final Recorder recorder = new Recorder(3);   // auto-resize
+        final LongAdder errors = new LongAdder();
+    }
+
+    void record(String endpoint, long intendedNanos, boolean ok) {
+        Endpoint e = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        e.recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos)));
+        if (!ok) e.errors.increment();
+    }
+
+    void begin() { inflight.incrementAndGet(); }
+
+    void end() { inflight.decrementAndGet(); }
+
+    int inflight() { return inflight.get(); }
+
+    /* ---------------- 리포트 ---------------- */
+
+    /** 콘솔 표 + 엔드포인트별 .hgrm + summary.csv 한 줄씩 */
+    void report(String stage, double seconds, PrintStream out, Path dir, Writer csv) throws IOException {
+        out.printf("%n== %s ==%n", stage);
+        out.printf("%-28s %8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50(ms)", "p90", "p99", "p99.9", "max");
+
+        Map<String, Endpoint> sorted = new TreeMap<>(endpoints);
+        for (Map.Entry<String, Endpoint> en : sorted.entrySet()) {
+            Histogram h = en.getValue().recorder.getIntervalHistogram();
+            long errors = en.getValue().errors.sum();
+            double tput = h.getTotalCount() / seconds;
+            out.printf("%-28s %8d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    en.getKey(), h.getTotalCount(), tput, errors,
+                    ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / 1000.0);
+
+            csv.write(String.format("%s,%s,%d,%.1f,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    stage, en.getKey(), h.getTotalCount(), tput, errors,
+                    ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / 1000.0));
+
+            Path file = dir.resolve(fileName(stage + "_" + en.getKey()) + ".hgrm");
+            try (PrintStream ps = new PrintStream(Files.newOutputStream(file))) {
+                h.outputPercentileDistribution(ps, 1000.0);   // µs → ms
+            }
+        }
+        csv.flush();
+    }
+
+    private static double ms(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static String fileName(String s) {
+        return s.replaceAll("[^A-Za-z0-9.]+", "_").replaceAll("^_|_$", "");
+    }
+}
@@ -0,0 +1,159 @@
+package com.superlawva.load;
+
+import com.superlawva.BackApplication;
+import com.superlawva.domain.user.entity.User;
+import com.superlawva.domain.user.repository.UserRepository;
+import com.superlawva.global.security.util.JwtUtil;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /log 수집 + 인증 /users 부하 생성기 (./gradlew loadTest)
+ * <p>
+ * - open model : 도착은 포아송 과정(지수 분포 간격)으로 응답과 무관하게 발생 → 서버가 느려져도 도착률 유지
+ * - 단계별로 도착률을 올려 가며 엔드포인트별 처리량 / 지연 분포를 기록 → 포화 지점 확인
+ * - target 이 없으면 같은 JVM 에서 앱을 load 프로필(H2 MySQL 모드)로 띄우고 회원을 시드함
+ *   (생성기와 서버가 CPU 를 나눠 쓰므로 절대값보다는 단계 간 / 커밋 간 비교용,
+ *    실제 한계는 별도 서버에 --target 으로)
+ * - 결과 : 콘솔 표, {reportDir}/summary.csv, 단계·엔드포인트별 HdrHistogram 분포(.hgrm)
+ */
+public final class LoadGenerator {
+
+    private static final int TOKENS = 256;
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions opts = LoadOptions.parse(args);
+        Files.createDirectories(opts.reportDir());
+
+        ConfigurableApplicationContext app = null;
+        URI base;
+        List<TrafficMix.AuthUser> users;
+        if (opts.target() == null) {
+            app = new SpringApplicationBuilder(BackApplication.class).profiles("load").run();
+            base = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+            users = seedUsers(app, opts.users());
+        } else {
+            base = URI.create(opts.target());
+            users = tokensOnly();
+        }
+
+        ExecutorService io = Executors.newFixedThreadPool(16, daemon("load-io"));
+        ScheduledExecutorService timer = Executors.newScheduledThreadPool(4, daemon("load-timer"));
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(io)
+                .build();
+        TrafficMix mix = new TrafficMix(http, base, timer, users, opts.batchRatio());
+        SplittableRandom rnd = new SplittableRandom(opts.seed());
+
+        try (Writer csv = Files.newBufferedWriter(opts.reportDir().resolve("summary.csv"))) {
+            csv.write("stage,endpoint,count,req_per_sec,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+
+            if (opts.warmupSeconds() > 0) {
+                System.out.printf("warmup %ds @ %.1f sessions/s%n", opts.warmupSeconds(), opts.rates().get(0));
+                run(mix, rnd, opts.rates().get(0), opts.authRatio(), opts.warmupSeconds(), opts.drainSeconds());
+            }
+            for (double rate : opts.rates()) {
+                String stage = String.format("%.1f sessions/s + %.1f auth/s", rate, rate * opts.authRatio());
+                System.out.printf("stage %s, %ds%n", stage, opts.stageSeconds());
+                EndpointStats stats = run(mix, rnd, rate, opts.authRatio(), opts.stageSeconds(), opts.drainSeconds());
+                stats.report(stage, opts.stageSeconds(), System.out, opts.reportDir(), csv);
+            }
+        } finally {
+            timer.shutdownNow();
+            io.shutdownNow();
+            if (app != null) app.close();
+        }
+        System.out.println("\nreport: " + opts.reportDir().toAbsolutePath());
+    }
+
+    /**
+     * seconds 동안 도착을 발생시키고, 남은 방문이 끝날 때까지(최대 drainSeconds) 기다림
+     * - 방문 / 인증 호출을 합친 도착률로 간격을 뽑고, 비율에 따라 종류를 고름
+     */
+    private static EndpointStats run(TrafficMix mix, SplittableRandom rnd, double rate, double authRatio,
+                                     int seconds, int drainSeconds) throws InterruptedException {
+        EndpointStats stats = new EndpointStats();
+        double total = rate * (1 + authRatio);
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long next = System.nanoTime();
+
+        while (true) {
+            next += (long) (-Math.log(1 - rnd.nextDouble()) / total * 1e9);
+            if (next >= end) break;
+            long wait = next - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            SplittableRandom r = rnd.split();
+            if (rnd.nextDouble() * total < rate) mix.visit(stats, r, next);
+            else mix.auth(stats, r, next);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainSeconds);
+        while (stats.inflight() > 0 && System.nanoTime() < deadline) Thread.sleep(100);
+        if (stats.inflight() > 0) System.out.printf("drain timeout: %d visits still running%n", stats.inflight());
+        return stats;
+    }
+
+    /* -------- 회원 시드 / 토큰 -------- */
+
+    private static List<TrafficMix.AuthUser> seedUsers(ConfigurableApplicationContext app, int count) {
+        UserRepository repo = app.getBean(UserRepository.class);
+        JwtUtil jwt = app.getBean(JwtUtil.class);
+
+        List<User> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long kakaoId = 9_000_000_000L + i;
+            batch.add(User.builder()
+                    .kakaoId(kakaoId)
+                    .email("load_" + i + "@load.local")
+                    .nickname("load-" + i)
+                    .build());
+        }
+        List<User> saved = repo.saveAll(batch);
+
+        List<TrafficMix.AuthUser> users = new ArrayList<>(Math.min(count, TOKENS));
+        for (int i = 0; i < Math.min(count, TOKENS); i++) {
+            User u = saved.get(i);
+            users.add(new TrafficMix.AuthUser(u.getId(), jwt.generateToken(u.getKakaoId())));
+        }
+        return users;
+    }
+
+    /** 외부 서버 : 회원은 만들지 않고 토큰만 (세션에는 userId 를 붙이지 않음) */
+    private static List<TrafficMix.AuthUser> tokensOnly() {
+        JwtUtil jwt = new JwtUtil(1, false);
+        List<TrafficMix.AuthUser> users = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            users.add(new TrafficMix.AuthUser(null, jwt.generateToken(9_000_000_000L + i)));
+        }
+        return users;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.superlawva.load;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--key=value, gradle 에서는 -Pload.key=value)
+ * - target       : 이미 떠 있는 서버 주소, 없으면 같은 JVM 에서 앱을 H2(MySQL 모드)로 띄움
+ * - rates        : 단계별 세션 도착률(초당), 단계마다 stageSeconds 동안 유지
+ * - authRatio    : 세션 도착 1건당 인증 /users 호출 도착 비율
+ * - batchRatio   : 페이지 이벤트를 /log/events/batch 한 번으로 보내는 페이지 비율
+ * - seed         : 도착 간격 / 시나리오 난수 시드 (같은 값이면 같은 요청 순서)
+ */
+record LoadOptions(
+        String target,
+        List<Double> rates,
+        int warmupSeconds,
+        int stageSeconds,
+        int drainSeconds,
+        double authRatio,
+        double batchRatio,
+        int users,
+        long seed,
+        Path reportDir
+) {
+    static LoadOptions parse(String[] args) {
+        Map<String, String> m = new HashMap<>();
+        for (String a : args) {
+            if (!a.startsWith("--") || !a.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + a);
+            }
+            int eq = a.indexOf('=');
+            m.put(a.substring(2, eq), a.substring(eq + 1));
+        }
+        return new LoadOptions(
+                m.get("target"),
+                Arrays.stream(m.getOrDefault("rates", "10,20,40,80").split(","))
+                        .map(String::trim).map(Double::valueOf).toList(),
+                Integer.parseInt(m.getOrDefault("warmupSeconds", "10")),
+                Integer.parseInt(m.getOrDefault("stageSeconds", "30")),
+                Integer.parseInt(m.getOrDefault("drainSeconds", "30")),
+                Double.parseDouble(m.getOrDefault("authRatio", "0.5")),
+                Double.parseDouble(m.getOrDefault("batchRatio", "0.3")),
+                Integer.parseInt(m.getOrDefault("users", "1000")),
+                Long.parseLong(m.getOrDefault("seed", "42")),
+                Path.of(m.getOrDefault("reportDir", "build/reports/load")));
+    }
+}
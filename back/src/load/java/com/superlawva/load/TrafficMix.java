@@ -0,0 +1,225 @@
+package com.superlawva.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * 방문자 시나리오 / 인증 호출
+ * <p>
+ * 방문 : session start → (pageview start → click/hover/scroll 이벤트 burst → pageview end) × 페이지 수 → session end
+ * - 단계 사이 think time 은 타이머로 예약, 지연은 예약 시각부터 측정
+ * - 페이지의 batchRatio 비율은 이벤트를 모았다가 /log/events/batch 한 번으로 전송
+ * 인증 호출 : ACCESS_TOKEN 쿠키로 GET /users (목록) 또는 GET /users/{id}
+ */
+final class TrafficMix {
+
+    /** 시드된 회원 (userId 는 세션에 붙일 값, 외부 서버 대상이면 null) */
+    record AuthUser(Long userId, String token) {}
+
+    private static final String[] PATHS = {
+            "/", "/contracts", "/contracts/upload", "/contracts/analysis", "/contracts/analysis/clauses",
+            "/mypage", "/faq", "/search"
+    };
+    private static final String[] ELEMENTS = {
+            "button#upload", "button.submit", "a.nav-link", "div.clause", "span.risk-badge", "input#search"
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient http;
+    private final URI base;
+    private final ScheduledExecutorService timer;
+    private final List<AuthUser> users;
+    private final double batchRatio;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    TrafficMix(HttpClient http, URI base, ScheduledExecutorService timer, List<AuthUser> users, double batchRatio) {
+        this.http = http;
+        this.base = base;
+        this.timer = timer;
+        this.users = users;
+        this.batchRatio = batchRatio;
+    }
+
+    /* ================= 방문 ================= */
+
+    void visit(EndpointStats stats, SplittableRandom rnd, long intended) {
+        stats.begin();
+        new Visit(stats, rnd).start(intended);
+    }
+
+    private final class Visit {
+        final EndpointStats stats;
+        final SplittableRandom rnd;
+        final Long userId;
+        int pagesLeft;
+        String sessionId;
+        String viewId;
+        String path;
+
+        Visit(EndpointStats stats, SplittableRandom rnd) {
+            this.stats = stats;
+            this.rnd = rnd;
+            this.userId = !users.isEmpty() && rnd.nextDouble() < 0.3
+                    ? users.get(rnd.nextInt(users.size())).userId() : null;   // 30% 로그인 사용자
+            this.pagesLeft = 1 + geometric(2.0);                              // 평균 3 페이지
+        }
+
+        void start(long intended) {
+            String body = "{\"action\":\"start\",\"device\":\"" + (rnd.nextBoolean() ? "mobile" : "pc") + "\""
+                    + (userId == null ? "" : ",\"userId\":" + userId) + "}";
+            post("POST /log/session start", "/log/session", body, intended, stats).thenAccept(res -> {
+                sessionId = field(res, "session_id");
+                if (sessionId == null) { stats.end(); return; }
+                later(think(300), this::pageStart);
+            });
+        }
+
+        void pageStart(long intended) {
+            path = PATHS[rnd.nextInt(PATHS.length)];
+            String body = "{\"action\":\"start\",\"sessionId\":" + sessionId + ",\"path\":\"" + path + "\"}";
+            post("POST /log/pageview start", "/log/pageview", body, intended, stats).thenAccept(res -> {
+                viewId = field(res, "view_id");
+                if (viewId == null) { stats.end(); return; }
+                int events = 1 + geometric(7.0);                              // 평균 8 이벤트
+                if (rnd.nextDouble() < batchRatio) {
+                    later(think(200) * events, t -> batch(t, events));       // 클라이언트 버퍼링 후 한 번에
+                } else {
+                    later(think(200), t -> event(t, events));
+                }
+            });
+        }
+
+        void event(long intended, int left) {
+            post("POST /log/event", "/log/event", eventJson(), intended, stats).thenAccept(res -> {
+                if (res == null) { stats.end(); return; }
+                if (left > 1) later(think(200), t -> event(t, left - 1));
+                else later(think(500), this::pageEnd);
+            });
+        }
+
+        void batch(long intended, int events) {
+            StringJoiner j = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < events; i++) j.add(eventJson());
+            post("POST /log/events/batch", "/log/events/batch", j.toString(), intended, stats).thenAccept(res -> {
+                if (res == null) { stats.end(); return; }
+                later(think(500), this::pageEnd);
+            });
+        }
+
+        void pageEnd(long intended) {
+            String body = "{\"action\":\"end\",\"sessionId\":" + sessionId + ",\"viewId\":" + viewId + "}";
+            post("POST /log/pageview end", "/log/pageview", body, intended, stats).thenAccept(res -> {
+                if (res == null) { stats.end(); return; }
+                if (--pagesLeft > 0) later(think(300), this::pageStart);
+                else later(think(300), this::end);
+            });
+        }
+
+        void end(long intended) {
+            String body = "{\"action\":\"end\",\"sessionId\":" + sessionId + "}";
+            post("POST /log/session end", "/log/session", body, intended, stats)
+                    .whenComplete((res, ex) -> stats.end());
+        }
+
+        /* click 25% / hover 35% / scroll 40% */
+        String eventJson() {
+            double p = rnd.nextDouble();
+            String element = ELEMENTS[rnd.nextInt(ELEMENTS.length)];
+            String type;
+            String meta;
+            if (p < 0.25) {
+                type = "click";
+                meta = "{\"x\":" + rnd.nextInt(1280) + ",\"y\":" + rnd.nextInt(2400)
+                        + ",\"click_count\":1,\"interval_avg\":0,\"element\":\"" + element + "\"}";
+            } else if (p < 0.60) {
+                type = "hover";
+                meta = "{\"element\":\"" + element + "\",\"duration\":" + (100 + rnd.nextInt(3000)) + "}";
+            } else {
+                type = "scroll";
+                meta = "{\"scroll_percent\":" + rnd.nextInt(101) + "}";
+            }
+            return "{\"type\":\"" + type + "\",\"target\":\"" + element + "\",\"time\":\"" + LocalDateTime.now()
+                    + "\",\"sessionId\":" + sessionId + ",\"viewId\":" + viewId
+                    + (userId == null ? "" : ",\"userId\":" + userId)
+                    + ",\"eventKey\":\"" + Long.toHexString(rnd.nextLong()) + "\",\"meta\":" + meta + "}";
+        }
+
+        long think(double meanMs) {
+            return (long) (-Math.log(1 - rnd.nextDouble()) * meanMs);
+        }
+
+        int geometric(double mean) {
+            return (int) (-Math.log(1 - rnd.nextDouble()) * mean);
+        }
+    }
+
+    /* ================= 인증 호출 ================= */
+
+    void auth(EndpointStats stats, SplittableRandom rnd, long intended) {
+        if (users.isEmpty()) return;
+        AuthUser u = users.get(rnd.nextInt(users.size()));
+        boolean list = rnd.nextBoolean();
+        String name = list ? "GET /users" : "GET /users/{id}";
+        String uri = list ? "/users?size=20" : "/users/" + (u.userId() == null ? 1 : u.userId());
+
+        stats.begin();
+        HttpRequest req = HttpRequest.newBuilder(base.resolve(uri))
+                .timeout(TIMEOUT)
+                .header("Cookie", "ACCESS_TOKEN=" + u.token())
+                .GET()
+                .build();
+        send(name, req, intended, stats).whenComplete((res, ex) -> stats.end());
+    }
+
+    /* ================= HTTP ================= */
+
+    private CompletableFuture<String> post(String name, String uri, String json, long intended, EndpointStats stats) {
+        HttpRequest req = HttpRequest.newBuilder(base.resolve(uri))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return send(name, req, intended, stats);
+    }
+
+    /** 2xx 면 본문, 아니면(예외 포함) null */
+    private CompletableFuture<String> send(String name, HttpRequest req, long intended, EndpointStats stats) {
+        return http.sendAsync(req, HttpResponse.BodyHandlers.ofString())
+                .handle((res, ex) -> {
+                    boolean ok = ex == null && res.statusCode() / 100 == 2;
+                    stats.record(name, intended, ok);
+                    return ok ? res.body() : null;
+                });
+    }
+
+    /** delayMs 뒤 실행, 인자로 예약 시각(nanoTime) 을 넘김 */
+    private void later(long delayMs, LongConsumer step) {
+        long intended = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        timer.schedule(() -> step.accept(intended), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private String field(String json, String name) {
+        if (json == null) return null;
+        try {
+            JsonNode v = mapper.readTree(json).get(name);
+            return v == null ? null : v.asText();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
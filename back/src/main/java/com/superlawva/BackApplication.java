@@ -3,8 +3,10 @@ package com.superlawva;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class BackApplication {
     public static void main(String[] args) {
         // back 폴더에 있는 .env를 직접 지정
@@ -0,0 +1,16 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * log.active-view.* 설정 (열린 페이지뷰 startedAt 캐시)
+ */
+@ConfigurationProperties(prefix = "log.active-view")
+public record ActiveViewProperties(
+        @DefaultValue("200000") long maxSize,
+        @DefaultValue("2h")     Duration ttl,       // 이보다 오래 열린 뷰는 DB 조회로 fallback
+        @DefaultValue("1m")     Duration missingTtl // DB 에도 없는 viewId 를 다시 조회하지 않는 시간
+) {}
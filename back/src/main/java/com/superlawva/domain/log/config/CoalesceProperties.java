@@ -0,0 +1,17 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * log.coalesce.* 설정 (scroll / hover 이벤트 병합)
+ * - 같은 (viewId, type[, element]) 이벤트를 window 동안 모아 1행으로 기록
+ */
+@ConfigurationProperties(prefix = "log.coalesce")
+public record CoalesceProperties(
+        @DefaultValue("false")  boolean enabled,
+        @DefaultValue("5s")     Duration window,
+        @DefaultValue("100000") int maxEntries      // 열린 윈도 상한, 넘으면 병합 없이 바로 기록
+) {}
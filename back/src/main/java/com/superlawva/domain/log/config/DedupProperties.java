@@ -0,0 +1,16 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * log.dedup.* 설정 (event_key 기반 재전송 중복 제거)
+ * - 메모리 = 3 * expectedPerWindow * -ln(fpp) / ln(2)^2 비트 (기본값 약 11MB)
+ */
+@ConfigurationProperties(prefix = "log.dedup")
+public record DedupProperties(
+        @DefaultValue("false")   boolean enabled,
+        @DefaultValue("600000")  long windowMs,               // 키를 기억하는 최소 시간 (최대 2배)
+        @DefaultValue("2000000") long expectedPerWindow,
+        @DefaultValue("0.001")   double fpp                   // 새 이벤트를 중복으로 오판할 확률
+) {}
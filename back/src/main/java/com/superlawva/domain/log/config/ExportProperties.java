@@ -0,0 +1,13 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * log.export.* 설정 (이벤트 스트리밍 export)
+ */
+@ConfigurationProperties(prefix = "log.export")
+public record ExportProperties(
+        @DefaultValue("-2147483648") int fetchSize,   // MySQL: Integer.MIN_VALUE 여야 행 단위 스트리밍 (useCursorFetch 사용 시 양수)
+        @DefaultValue("2")           int maxConcurrent // 동시에 열 수 있는 export 수 (커넥션 점유 제한)
+) {}
@@ -0,0 +1,16 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * log.heatmap.* 설정 (클릭 히트맵 격자)
+ */
+@ConfigurationProperties(prefix = "log.heatmap")
+public record HeatmapProperties(
+        @DefaultValue("true")   boolean enabled,
+        @DefaultValue("20")     int cellSize,       // 셀 한 변(px)
+        @DefaultValue("10000")  int maxCoordinate,  // 이보다 큰 좌표는 마지막 셀로 clamp
+        @DefaultValue("100000") int maxKeys,        // 메모리 내 셀 키 상한
+        @DefaultValue("500")    int chunkSize
+) {}
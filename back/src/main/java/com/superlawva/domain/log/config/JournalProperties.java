@@ -0,0 +1,23 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * log.journal.* 설정 (mmap append-only 저널)
+ * - enabled=true 이면 /log/event* 는 저널에 기록(fsync)된 뒤 202 를 응답하고, replayer 가 MySQL 로 옮김
+ */
+@ConfigurationProperties(prefix = "log.journal")
+public record JournalProperties(
+        @DefaultValue("false")         boolean enabled,
+        @DefaultValue("back/journal")  String dir,
+        @DefaultValue("67108864")      int segmentSize,       // 64MB
+        @DefaultValue("64")            int maxSegments,       // 디스크 상한 (넘으면 503)
+        @DefaultValue("2ms")           Duration syncInterval, // group fsync 주기
+        @DefaultValue("500")           int replayBatchSize,
+        @DefaultValue("5")             int replayMaxAttempts, // 넘으면 배치를 나눠 적재, 혼자서도 실패하는 레코드는 dead-letter
+        @DefaultValue("30s")           Duration maxBackoff,   // DB 장애 시 재시도 최대 간격
+        @DefaultValue("10s")           Duration shutdownTimeout
+) {}
@@ -0,0 +1,14 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * log.rollup.* 설정 (실시간 분 단위 집계)
+ */
+@ConfigurationProperties(prefix = "log.rollup")
+public record RollupProperties(
+        @DefaultValue("true")  boolean enabled,
+        @DefaultValue("20000") int maxKeys,      // 메모리 내 (분, path, type) 최대 개수, 넘으면 path 를 "(other)" 로 묶음
+        @DefaultValue("1000")  int chunkSize
+) {}
@@ -0,0 +1,32 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * log.sampling.* 설정 (타입별 샘플링 + 부하 기반 shedding)
+ * - rates        : 타입별 기본 저장 비율 (없으면 defaultRate)
+ * - alwaysKeep   : 샘플링/shedding 모두 적용하지 않는 타입
+ * - sheddable    : 부하가 올라가면 loadFactor 를 곱해 추가로 줄이는 타입
+ * - 부하 = max(write-behind 큐 사용률, 저널 세그먼트 사용률, DB 적재 지연 EWMA / latencyTargetMs)
+ *   shedStart 부터 1.0 까지 loadFactor 가 1 → minFactor 로 선형 감소
+ */
+@ConfigurationProperties(prefix = "log.sampling")
+public record SamplingProperties(
+        @DefaultValue("false")             boolean enabled,
+        @DefaultValue("1.0")               double defaultRate,
+        Map<String, Double> rates,
+        @DefaultValue("error")             Set<String> alwaysKeep,
+        @DefaultValue("hover,scroll,input") Set<String> sheddable,
+        @DefaultValue("0.6")               double shedStart,
+        @DefaultValue("0.05")              double minFactor,
+        @DefaultValue("250")               long latencyTargetMs
+) {
+    public double rateOf(String type) {
+        if (rates == null) return defaultRate;
+        return rates.getOrDefault(type, defaultRate);
+    }
+}
@@ -0,0 +1,16 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * log.sessionizer.* 설정 (서버 측 세션 종료)
+ */
+@ConfigurationProperties(prefix = "log.sessionizer")
+public record SessionizerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30m")  Duration idleTimeout,   // 마지막 활동 후 이 시간이 지나면 종료
+        @DefaultValue("1000") int chunkSize           // UPDATE batch 1회 행 수
+) {}
@@ -0,0 +1,21 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * log.subtype.* 설정 (서브 로그 타입별 튜닝)
+ * - chunk-size.&lt;type&gt; : 배치 flush 시 한 번에 보내는 행 수 (없으면 default-chunk-size)
+ */
+@ConfigurationProperties(prefix = "log.subtype")
+public record SubtypeProperties(
+        @DefaultValue("500") int defaultChunkSize,
+        Map<String, Integer> chunkSize
+) {
+    public int chunkSizeOf(String type) {
+        if (chunkSize == null) return defaultChunkSize;
+        return chunkSize.getOrDefault(type, defaultChunkSize);
+    }
+}
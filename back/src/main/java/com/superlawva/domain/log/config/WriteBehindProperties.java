@@ -0,0 +1,27 @@
+package com.superlawva.domain.log.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * log.write-behind.* 설정
+ * - enabled=false 이면 기존처럼 요청 스레드에서 바로 DB 에 기록
+ */
+@ConfigurationProperties(prefix = "log.write-behind")
+public record WriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int capacity,           // 큐 최대 적재 건수
+        @DefaultValue("2")     int workers,            // 배치 적재 스레드 수
+        @DefaultValue("200")   int batchSize,          // 이 건수가 모이면 즉시 flush
+        @DefaultValue("200")   long flushIntervalMs,   // 첫 건 이후 이 시간이 지나면 flush
+        @DefaultValue("BLOCK") Overflow overflow,      // 큐가 가득 찼을 때 정책
+        @DefaultValue("50")    long offerTimeoutMs,    // BLOCK 정책의 최대 대기 시간
+        @DefaultValue("10000") long shutdownTimeoutMs  // 종료 시 잔여 큐 drain 대기 시간
+) {
+    public enum Overflow {
+        BLOCK,        // offerTimeoutMs 만큼 기다린 뒤에도 가득 차 있으면 거절
+        DROP,         // 조용히 버림 (dropped 카운트만 증가)
+        REJECT,       // 즉시 거절 → 503
+        CALLER_RUNS   // 요청 스레드에서 동기 적재 (자연스러운 backpressure)
+    }
+}
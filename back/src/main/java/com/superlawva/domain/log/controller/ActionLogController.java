@@ -3,15 +3,25 @@ package com.superlawva.domain.log.controller;
 import com.superlawva.domain.log.dto.EventRequestDTO;
 import com.superlawva.domain.log.dto.PageViewRequestDTO;
 import com.superlawva.domain.log.dto.SessionRequestDTO;
+import com.superlawva.domain.log.journal.EventJournal;
+import com.superlawva.domain.log.service.EventCoalescer;
+import com.superlawva.domain.log.service.EventDeduplicator;
+import com.superlawva.domain.log.service.EventSampler;
+import com.superlawva.domain.log.service.EventWriteBehindQueue;
 import com.superlawva.domain.log.service.LogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Tag(name = "ActionLog Controller")
 @RestController
@@ -20,6 +30,16 @@ import java.util.Map;
 public class ActionLogController {
 
     private final LogService logService;
+    private final EventWriteBehindQueue writeBehind;
+    private final EventJournal journal;
+    private final EventSampler sampler;
+    private final EventCoalescer coalescer;
+    private final EventDeduplicator dedup;
+
+    @Value("${log.batch.max-size:500}")
+    private int maxBatchSize;
+
+    // ID 는 64bit Snowflake 라 JS Number(2^53) 범위를 넘으므로 응답에서는 문자열로 내려준다
 
     /* ===== 세션 로그 ===== */
     @Operation(
@@ -33,7 +53,7 @@ public class ActionLogController {
         if ("start".equals(req.action())) {
             return ResponseEntity
                     .status(HttpStatus.CREATED)
-                    .body(Map.of("session_id", sessionId));
+                    .body(Map.of("session_id", String.valueOf(sessionId)));
         } else {
             return ResponseEntity.noContent().build();
         }
@@ -51,7 +71,7 @@ public class ActionLogController {
         if ("start".equals(req.action())) {
             return ResponseEntity
                     .status(HttpStatus.CREATED)
-                    .body(Map.of("view_id", viewId));
+                    .body(Map.of("view_id", String.valueOf(viewId)));
         } else {
             return ResponseEntity.noContent().build();
         }
@@ -60,13 +80,92 @@ public class ActionLogController {
     /* ===== 이벤트 로그 ===== */
     @Operation(
             summary = "이벤트 로그 생성",
-            description = "타입과 meta 정보를 포함한 요청을 보내면 해당 타입에 따라 상세 로그가 저장됩니다."
+            description = "타입과 meta 정보를 포함한 요청을 보내면 해당 타입에 따라 상세 로그가 저장됩니다. "
+                    + "저널 / write-behind 모드에서는 저널 기록(또는 큐 적재) 후 ACCEPTED 를 반환합니다. "
+                    + "샘플링으로 버려지거나 scroll/hover 윈도에 병합된 이벤트, 이미 받은 eventKey 의 재전송도 ACCEPTED 를 반환합니다."
     )
     @PostMapping("/event")
     public ResponseEntity<?> event(@RequestBody EventRequestDTO req) {
-        Long eventId = logService.handleEvent(req);
+        if (dedup.isDuplicate(req)) return ResponseEntity.accepted().build();
+
+        EventRequestDTO kept = sampler.sample(req);
+        if (kept == null || coalescer.offer(kept)) {
+            dedup.record(req);
+            return ResponseEntity.accepted().build();
+        }
+
+        if (journal.isEnabled()) {
+            if (!journal.append(List.of(kept))) return queueFull(0);
+            dedup.record(req);
+            return ResponseEntity.accepted().build();
+        }
+        if (writeBehind.isEnabled()) {
+            if (writeBehind.submit(List.of(kept)) != 1) return queueFull(0);
+            dedup.record(req);
+            return ResponseEntity.accepted().build();
+        }
+
+        Long eventId = logService.handleEvent(kept);
+        dedup.record(req);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(Map.of("event_id", String.valueOf(eventId)));
+    }
+
+    /* ===== 이벤트 로그 (배치) ===== */
+    @Operation(
+            summary = "이벤트 로그 일괄 생성",
+            description = "이벤트 배열을 한 번에 받아 단일 트랜잭션에서 JDBC batch 로 저장합니다. 요청 순서대로 event_ids 를 반환하며, "
+                    + "샘플링으로 버려지거나 병합된 자리, eventKey 중복 자리는 null 입니다. "
+                    + "저널 / write-behind 모드에서는 적재된 건수(accepted, 버려진 건 포함)와 함께 ACCEPTED 를 반환합니다. "
+                    + "저널 모드는 배치 단위로 기록되므로 accepted 는 전체 또는 0 입니다."
+    )
+    @PostMapping("/events/batch")
+    public ResponseEntity<?> events(@RequestBody List<EventRequestDTO> reqs) {
+        if (reqs.size() > maxBatchSize) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", "한 번에 최대 " + maxBatchSize + "건까지 전송할 수 있습니다."));
+        }
+        List<EventRequestDTO> fresh = dedup.filter(reqs);                        // 중복 자리는 null
+        List<EventRequestDTO> sampled = coalescer.offer(sampler.sample(fresh));  // 버리거나 병합한 자리도 null
+        List<EventRequestDTO> kept = sampled == reqs ? reqs : sampled.stream().filter(Objects::nonNull).toList();
+
+        if (journal.isEnabled()) {
+            if (!journal.append(kept)) return queueFull(0);
+            dedup.record(fresh, fresh.size());
+            return ResponseEntity.accepted().body(Map.of("accepted", reqs.size()));
+        }
+        if (writeBehind.isEnabled()) {
+            int accepted = prefixOf(sampled, writeBehind.submit(kept));
+            dedup.record(fresh, accepted);
+            return accepted == reqs.size()
+                    ? ResponseEntity.accepted().body(Map.of("accepted", accepted))
+                    : queueFull(accepted);
+        }
+
+        Iterator<Long> ids = logService.handleEvents(kept).iterator();
+        dedup.record(fresh, fresh.size());
+        List<String> eventIds = sampled.stream()
+                .map(r -> r == null ? null : String.valueOf(ids.next()))
+                .toList();
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(Map.of("event_id", eventId));
+                .body(Map.of("event_ids", eventIds));
+    }
+
+    /* kept 중 앞쪽 n 건이 적재됐을 때 원래 요청 기준 prefix 길이 (그 사이 버려진 건 포함) */
+    private static int prefixOf(List<EventRequestDTO> sampled, int keptAccepted) {
+        int seen = 0;
+        for (int i = 0; i < sampled.size(); i++) {
+            if (sampled.get(i) != null && seen++ == keptAccepted) return i;
+        }
+        return sampled.size();
+    }
+
+    /* 큐 포화 / 저널 세그먼트 상한 → 503 + Retry-After, 앞쪽 accepted 건까지만 적재됨 */
+    private ResponseEntity<?> queueFull(int accepted) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("accepted", accepted));
     }
 }
@@ -0,0 +1,44 @@
+package com.superlawva.domain.log.controller;
+
+import com.superlawva.domain.log.dto.HeatmapResponseDTO;
+import com.superlawva.domain.log.repository.HeatmapJdbcRepository;
+import com.superlawva.domain.log.service.ClickHeatmap;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Tag(name = "ActionLog Stats Controller")
+@RestController
+@RequestMapping("/log/heatmap")
+@RequiredArgsConstructor
+public class HeatmapController {
+
+    private static final Duration MAX_RANGE = Duration.ofDays(31);
+
+    private final HeatmapJdbcRepository heatmapJdbcRepo;
+    private final ClickHeatmap heatmap;
+
+    @Operation(
+            summary = "클릭 히트맵",
+            description = "path 의 [from, to) 구간 클릭을 격자 셀 단위로 합산해 반환합니다. 시간 단위로 미리 집계된 표에서 조회하며 최대 31일까지 조회합니다."
+    )
+    @GetMapping
+    public HeatmapResponseDTO heatmap(
+            @RequestParam String path,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new InvalidLogQueryException("조회 구간은 0 초과 31일 이하여야 합니다.");
+        }
+        var cells = heatmapJdbcRepo.findGrid(path, from, to).stream()
+                .map(c -> new HeatmapResponseDTO.Cell(c.x(), c.y(), c.count()))
+                .toList();
+        return new HeatmapResponseDTO(path, heatmap.cellSize(), from, to, cells);
+    }
+}
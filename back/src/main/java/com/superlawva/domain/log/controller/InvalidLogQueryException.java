@@ -0,0 +1,12 @@
+package com.superlawva.domain.log.controller;
+
+/**
+ * /log 조회·export 요청의 잘못된 조건 (구간 역전, 범위 초과 등) → 400
+ * - 그 외 IllegalArgumentException 은 서버 버그일 수 있으므로 400 으로 바꾸지 않음
+ */
+public class InvalidLogQueryException extends RuntimeException {
+
+    public InvalidLogQueryException(String message) {
+        super(message);
+    }
+}
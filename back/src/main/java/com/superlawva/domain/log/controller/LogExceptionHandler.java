@@ -0,0 +1,49 @@
+package com.superlawva.domain.log.controller;
+
+import com.superlawva.global.response.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * /log 요청 예외 처리
+ * - 본문 역직렬화 실패 → 400 (meta 숫자 필드 누락·타입 불일치, 범위 오류 등)
+ *   응답은 고정 메시지만 (Jackson 메시지에 내부 클래스 / record 이름이 들어 있음), 원인은 서버 로그에만
+ *   알 수 없는 type 이나 meta 가 없는 이벤트는 meta=null 로 이벤트만 저장 (기존 클라이언트와 동일하게 no-op)
+ * - 종료 대상 세션/페이지뷰 없음 → 404
+ * - 잘못된 조회 조건(InvalidLogQueryException) → 400, 그 밖의 예외는 기본 처리(500)
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = {
+        ActionLogController.class, LogStatsController.class, HeatmapController.class, LogExportController.class})
+public class LogExceptionHandler {
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, String>> unreadable(HttpMessageNotReadableException e) {
+        ErrorStatus status = ErrorStatus.INVALID_EVENT_PAYLOAD;
+        log.info("/log 요청 본문 역직렬화 실패: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", status.getCode(), "message", status.getMessage()));
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> notFound(NoSuchElementException e) {
+        ErrorStatus status = ErrorStatus.LOG_TARGET_NOT_FOUND;
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", status.getCode(), "message", status.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidLogQueryException.class)
+    public ResponseEntity<Map<String, String>> badRequest(InvalidLogQueryException e) {
+        ErrorStatus status = ErrorStatus.INVALID_LOG_QUERY;
+        String message = e.getMessage() == null ? status.getMessage() : e.getMessage();
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", status.getCode(), "message", message));
+    }
+}
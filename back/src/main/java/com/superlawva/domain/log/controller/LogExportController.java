@@ -0,0 +1,74 @@
+package com.superlawva.domain.log.controller;
+
+import com.superlawva.domain.log.service.EventExportService;
+import com.superlawva.domain.log.service.EventExportService.Format;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Tag(name = "ActionLog Stats Controller")
+@RestController
+@RequestMapping("/log/export")
+@RequiredArgsConstructor
+public class LogExportController {
+
+    private final EventExportService exportService;
+
+    @Operation(
+            summary = "이벤트 export (스트리밍)",
+            description = "[from, to) 구간 이벤트와 상세 로그를 NDJSON 또는 CSV 로 한 행씩 내려줍니다. gzip=true 이면 .gz 로 압축합니다. "
+                    + "동시 export 수를 넘으면 TOO MANY REQUESTS 를 반환합니다. ADMIN 권한이 필요합니다. "
+                    + "구간은 서버 수신 시각 기준이며, Snowflake ID 도입 전 행은 클라이언트 이벤트 시각(time) 기준으로 포함됩니다."
+    )
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        if (!from.isBefore(to)) {
+            throw new InvalidLogQueryException("from 은 to 보다 이전이어야 합니다.");
+        }
+        Format fmt = "csv".equalsIgnoreCase(format) ? Format.CSV : Format.NDJSON;
+
+        if (!exportService.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try (OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out) {
+                exportService.export(from, to, fmt, target);
+            } catch (IOException e) {
+                log.warn("이벤트 export 중단: {}", e.getMessage());
+            } finally {
+                exportService.release();
+            }
+        };
+
+        String filename = "events." + (fmt == Format.CSV ? "csv" : "ndjson") + (gzip ? ".gz" : "");
+        MediaType type = gzip ? MediaType.parseMediaType("application/gzip")
+                : fmt == Format.CSV ? MediaType.parseMediaType("text/csv; charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,43 @@
+package com.superlawva.domain.log.controller;
+
+import com.superlawva.domain.log.dto.RollupResponseDTO;
+import com.superlawva.domain.log.repository.EventRollupRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Tag(name = "ActionLog Stats Controller")
+@RestController
+@RequestMapping("/log/stats")
+@RequiredArgsConstructor
+public class LogStatsController {
+
+    private static final Duration MAX_RANGE = Duration.ofDays(7);
+
+    private final EventRollupRepository rollupRepo;
+
+    @Operation(
+            summary = "분 단위 이벤트 시계열",
+            description = "event_rollup_minute 집계에서 [from, to) 구간을 조회합니다. path, type 으로 필터링할 수 있으며 최대 7일까지 조회합니다."
+    )
+    @GetMapping("/minutely")
+    public List<RollupResponseDTO> minutely(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String path,
+            @RequestParam(required = false) String type) {
+
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new InvalidLogQueryException("조회 구간은 0 초과 7일 이하여야 합니다.");
+        }
+        return rollupRepo.findSeries(from, to, path, type).stream()
+                .map(RollupResponseDTO::from)
+                .toList();
+    }
+}
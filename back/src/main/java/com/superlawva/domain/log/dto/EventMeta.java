@@ -0,0 +1,79 @@
+package com.superlawva.domain.log.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 이벤트 타입별 meta
+ * - EventRequestDTO.type 값으로 구현체가 결정됨 (Jackson EXTERNAL_PROPERTY)
+ * - 필수 숫자 필드는 primitive 로 바로 역직렬화 → 박싱/Map 할당 없음 (선택 필드만 Integer)
+ * - 타입 불일치, 누락, 범위 오류는 역직렬화 단계에서 400 으로 거절됨
+ */
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = EventMeta.ClickMeta.class,  name = "click"),
+        @JsonSubTypes.Type(value = EventMeta.ErrorMeta.class,  name = "error"),
+        @JsonSubTypes.Type(value = EventMeta.HoverMeta.class,  name = "hover"),
+        @JsonSubTypes.Type(value = EventMeta.ScrollMeta.class, name = "scroll"),
+        @JsonSubTypes.Type(value = EventMeta.FormMeta.class,   name = "form"),
+        @JsonSubTypes.Type(value = EventMeta.InputMeta.class,  name = "input"),
+        @JsonSubTypes.Type(value = EventMeta.NaviMeta.class,   name = "navi")
+})
+public sealed interface EventMeta {
+
+    @Schema(description = "click meta")
+    record ClickMeta(
+            @JsonProperty(required = true) int x,
+            @JsonProperty(required = true) int y,
+            @JsonProperty(value = "click_count",  required = true) int clickCount,
+            @JsonProperty(value = "interval_avg", required = true) int intervalAvg,
+            String element
+    ) implements EventMeta {}
+
+    @Schema(description = "error meta")
+    record ErrorMeta(
+            String message,
+            String path
+    ) implements EventMeta {}
+
+    @Schema(description = "hover meta")
+    record HoverMeta(
+            String element,
+            @JsonProperty(required = true) int duration        // ms
+    ) implements EventMeta {
+        public HoverMeta {
+            if (duration < 0) throw new IllegalArgumentException("duration 은 0 이상이어야 합니다.");
+        }
+    }
+
+    @Schema(description = "scroll meta")
+    record ScrollMeta(
+            @JsonProperty(value = "scroll_percent", required = true) int scrollPercent
+    ) implements EventMeta {
+        public ScrollMeta {
+            if (scrollPercent < 0 || scrollPercent > 100) {
+                throw new IllegalArgumentException("scroll_percent 는 0~100 범위여야 합니다.");
+            }
+        }
+    }
+
+    @Schema(description = "form meta")
+    record FormMeta(
+            @JsonProperty("form_name") String formName,
+            @JsonProperty(required = true) boolean success,
+            @JsonProperty("status_code")   Integer statusCode,     // 선택 → 없으면 null (FormLog 컬럼도 nullable)
+            @JsonProperty("response_time") Integer responseTime    // ms
+    ) implements EventMeta {}
+
+    @Schema(description = "input meta")
+    record InputMeta(
+            @JsonProperty("field_name") String fieldName,
+            String action                                       // focus / blur / change …
+    ) implements EventMeta {}
+
+    @Schema(description = "navi meta")
+    record NaviMeta(
+            @JsonProperty("from_page") String fromPage,
+            @JsonProperty("to_page")   String toPage
+    ) implements EventMeta {}
+}
@@ -1,18 +1,43 @@
 package com.superlawva.domain.log.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Schema(description = "이벤트 요청 DTO")
 public record EventRequestDTO(
 
-        @Schema(description = "이벤트 종류", example = "click") String type,
+        @Schema(description = "이벤트 종류", example = "click",
+                allowableValues = {"click", "error", "hover", "scroll", "form", "input", "navi"}) String type,
         @Schema(description = "이벤트 대상", example = "button.submit") String target,
         @Schema(description = "이벤트 시간", example = "2025-06-05T12:00:00Z") LocalDateTime time,
         @Schema(description = "세션 ID") Long sessionId,
         @Schema(description = "페이지뷰 ID") Long viewId,
         @Schema(description = "유저 ID", nullable = true) Long userId,
-        @Schema(description = "이벤트 상세 메타데이터") Map<String, Object> meta
-) {}
+
+        @Schema(description = "이벤트 상세 메타데이터 (type 에 따라 구조가 다름)",
+                oneOf = {EventMeta.ClickMeta.class, EventMeta.ErrorMeta.class, EventMeta.HoverMeta.class,
+                        EventMeta.ScrollMeta.class, EventMeta.FormMeta.class, EventMeta.InputMeta.class,
+                        EventMeta.NaviMeta.class})
+        // 알 수 없는 type 이면 meta 는 null (400 대신 상세 로그 없이 이벤트만 저장)
+        @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXTERNAL_PROPERTY,
+                property = "type", visible = true, defaultImpl = Void.class)
+        EventMeta meta,
+
+        @Schema(description = "클라이언트 이벤트 ID (재전송 시 같은 값, 서버에서 중복 제거)",
+                example = "3f2a9c1e-7b4d-4e8a-9f61-0c5d2b7e8a13", nullable = true) String eventKey,
+
+        // 서버 샘플링 결과 (클라이언트 입력은 무시), null 이면 1.0
+        @Schema(hidden = true) @JsonProperty(access = JsonProperty.Access.READ_ONLY) Float sampleRate
+) {
+    public EventRequestDTO withSampleRate(float rate) {
+        return new EventRequestDTO(type, target, time, sessionId, viewId, userId, meta, eventKey, rate);
+    }
+
+    /** 이 이벤트 1건이 대표하는 원래 이벤트 수 (집계 재가중치) */
+    public long weight() {
+        return sampleRate == null || sampleRate >= 1f ? 1 : Math.max(1, Math.round(1 / sampleRate));
+    }
+}
@@ -0,0 +1,22 @@
+package com.superlawva.domain.log.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "클릭 히트맵")
+public record HeatmapResponseDTO(
+        @Schema(description = "페이지 경로", example = "/contracts") String path,
+        @Schema(description = "셀 한 변(px)", example = "20") int cellSize,
+        @Schema(description = "조회 시작(포함)") LocalDateTime from,
+        @Schema(description = "조회 끝(제외)") LocalDateTime to,
+        @Schema(description = "클릭이 있는 셀 목록") List<Cell> cells
+) {
+    @Schema(description = "히트맵 셀")
+    public record Cell(
+            @Schema(description = "셀 좌상단 x(px)") int x,
+            @Schema(description = "셀 좌상단 y(px)") int y,
+            @Schema(description = "클릭 수") long count
+    ) {}
+}
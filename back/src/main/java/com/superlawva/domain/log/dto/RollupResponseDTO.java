@@ -0,0 +1,18 @@
+package com.superlawva.domain.log.dto;
+
+import com.superlawva.domain.log.entity.EventRollupMinute;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "분 단위 이벤트 집계")
+public record RollupResponseDTO(
+        @Schema(description = "분 버킷 시작 시각") LocalDateTime bucket,
+        @Schema(description = "페이지 경로", example = "/contracts") String path,
+        @Schema(description = "이벤트 종류 (pageview 포함)", example = "click") String type,
+        @Schema(description = "건수") long count
+) {
+    public static RollupResponseDTO from(EventRollupMinute r) {
+        return new RollupResponseDTO(r.getId().getBucket(), r.getId().getPath(), r.getId().getType(), r.getCnt());
+    }
+}
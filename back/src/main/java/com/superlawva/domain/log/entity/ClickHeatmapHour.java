@@ -0,0 +1,35 @@
+package com.superlawva.domain.log.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 클릭 히트맵 셀 (path, 시간 버킷, 셀 좌표) → 클릭 수
+ * - x, y 는 셀 좌상단 픽셀 좌표 (cell-size 배수)
+ * - ClickHeatmap 이 주기적으로 upsert
+ */
+@Entity
+@Table(name = "click_heatmap_hour",
+        indexes = @Index(name = "idx_heatmap_path_bucket", columnList = "path, bucket"))
+@Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClickHeatmapHour {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long cnt;
+
+    @Embeddable
+    @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        @Column(length = 255) private String path;
+        private LocalDateTime bucket;                 // 시간 단위로 절삭된 시각
+        private int x;
+        private int y;
+    }
+}
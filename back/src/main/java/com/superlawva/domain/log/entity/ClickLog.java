@@ -5,7 +5,7 @@ import lombok.*;
 
 @Entity @Table(name = "click_log")
 @Getter @Setter @NoArgsConstructor
-public class ClickLog {
+public class ClickLog implements SubLog {
     @Id                      // 이벤트 PK 그대로 사용
     private Long id;
 
@@ -6,7 +6,7 @@ import lombok.*;
 @Entity
 @Table(name = "error_log")
 @Getter @Setter @NoArgsConstructor
-public class ErrorLog {
+public class ErrorLog implements SubLog {
 
     @Id
     private Long id;
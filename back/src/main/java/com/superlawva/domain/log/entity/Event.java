@@ -1,6 +1,7 @@
 package com.superlawva.domain.log.entity;
 
 import com.superlawva.domain.user.entity.User;
+import com.superlawva.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,12 +10,13 @@ import java.time.LocalDateTime;
 @Entity @Table(name = "events")
 @Getter @Setter @NoArgsConstructor
 public class Event {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId                   // Snowflake, INSERT 전 메모리에서 발급
     private Long id;
 
     private String type;                 // click, hover …
     private String target;
     private LocalDateTime time;
+    private Float sampleRate;            // 저장 비율, null = 1.0 (집계 시 1/rate 로 재가중)
 
     @ManyToOne(fetch = FetchType.LAZY) private Session  session;
     @ManyToOne(fetch = FetchType.LAZY) private PageView view;
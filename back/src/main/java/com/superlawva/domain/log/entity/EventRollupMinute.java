@@ -0,0 +1,31 @@
+package com.superlawva.domain.log.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 분 단위 이벤트 집계 (path, type, minute) → count
+ * - RealtimeCounters 가 주기적으로 upsert
+ */
+@Entity @Table(name = "event_rollup_minute")
+@Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventRollupMinute {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long cnt;
+
+    @Embeddable
+    @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED) @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDateTime bucket;                 // 분 단위로 절삭된 시각
+        @Column(length = 255) private String path;
+        @Column(length = 32)  private String type;
+    }
+}
@@ -7,7 +7,7 @@ import lombok.*;
 @Entity
 @Table(name = "form_log")
 @Getter @Setter @NoArgsConstructor
-public class FormLog {
+public class FormLog implements SubLog {
 
     @Id
     private Long id;
@@ -6,7 +6,7 @@ import lombok.*;
 @Entity
 @Table(name = "hover_log")
 @Getter @Setter @NoArgsConstructor
-public class HoverLog {
+public class HoverLog implements SubLog {
 
     @Id
     private Long id;                     // Event PK 그대로 사용
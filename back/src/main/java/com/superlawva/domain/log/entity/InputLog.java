@@ -6,7 +6,7 @@ import lombok.*;
 @Entity
 @Table(name = "input_log")
 @Getter @Setter @NoArgsConstructor
-public class InputLog {
+public class InputLog implements SubLog {
 
     @Id
     private Long id;
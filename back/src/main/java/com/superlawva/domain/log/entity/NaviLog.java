@@ -6,7 +6,7 @@ import lombok.*;
 @Entity
 @Table(name = "navi_log")
 @Getter @Setter @NoArgsConstructor
-public class NaviLog {
+public class NaviLog implements SubLog {
 
     @Id
     private Long id;
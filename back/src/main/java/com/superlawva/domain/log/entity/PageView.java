@@ -1,5 +1,6 @@
 package com.superlawva.domain.log.entity;
 
+import com.superlawva.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,7 +9,7 @@ import java.time.LocalDateTime;
 @Entity @Table(name = "page_views")
 @Getter @Setter @NoArgsConstructor
 public class PageView {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId                   // Snowflake, INSERT 전 메모리에서 발급
     private Long id;
 
     private String path;
@@ -6,7 +6,7 @@ import lombok.*;
 @Entity
 @Table(name = "scroll_log")
 @Getter @Setter @NoArgsConstructor
-public class ScrollLog {
+public class ScrollLog implements SubLog {
 
     @Id
     private Long id;
@@ -1,19 +1,22 @@
 package com.superlawva.domain.log.entity;
 
 import com.superlawva.domain.user.entity.User;
+import com.superlawva.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
-@Entity @Table(name = "sessions")
+@Entity
+@Table(name = "sessions", indexes = @Index(name = "idx_sessions_idle", columnList = "end_at, last_seen_at"))
 @Getter @Setter @NoArgsConstructor
 public class Session {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId                   // Snowflake, INSERT 전 메모리에서 발급
     private Long id;
 
     private LocalDateTime startedAt;
     private LocalDateTime endAt;
+    private LocalDateTime lastSeenAt;    // Sessionizer 스윕이 갱신, 유휴 판정 기준
 
     @Enumerated(EnumType.STRING)
     private Device device;
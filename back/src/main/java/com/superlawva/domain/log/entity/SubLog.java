@@ -0,0 +1,8 @@
+package com.superlawva.domain.log.entity;
+
+/**
+ * events 1건에 1:1 로 붙는 상세 로그 (PK = Event PK, @MapsId)
+ */
+public interface SubLog {
+    void setEvent(Event event);
+}
@@ -0,0 +1,166 @@
+package com.superlawva.domain.log.journal;
+
+import com.superlawva.domain.log.dto.EventMeta;
+import com.superlawva.domain.log.dto.EventMeta.*;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * EventRequestDTO ↔ 저널 바이너리 인코딩
+ * <pre>
+ *  byte  version
+ *  byte  nullMask     (1:time 2:sessionId 4:viewId 8:userId 16:sampleRate 32:eventKey 64:meta)
+ *  str   type, target
+ *  long  time(epochSecond, UTC 로 해석한 LocalDateTime) + int nano
+ *  long  sessionId, viewId, userId (null 이 아닌 것만)
+ *  float sampleRate (null 이 아닐 때만)
+ *  str   eventKey   (null 이 아닐 때만)
+ *  ...   type 별 meta 필드 (meta 가 null 이 아닐 때만)
+ * </pre>
+ * 문자열은 int 길이(-1 = null) + UTF-8 바이트.
+ * int? 는 byte(0/1) + 값(1 일 때만).
+ * version 1 레코드는 meta 비트가 없어 type 기준으로 meta 를 읽고, version 2 이하의 form meta 숫자는 null 이 없음
+ * (재시작 전 남은 저널 호환).
+ */
+final class EventCodec {
+
+    private static final byte VERSION = 3;
+    private static final byte VERSION_NO_META_BIT = 1;
+    private static final byte VERSION_INT_FORM    = 2;
+
+    private static final byte HAS_TIME    = 1;
+    private static final byte HAS_SESSION = 2;
+    private static final byte HAS_VIEW    = 4;
+    private static final byte HAS_USER    = 8;
+    private static final byte HAS_RATE    = 16;
+    private static final byte HAS_KEY     = 32;
+    private static final byte HAS_META    = 64;
+
+    private EventCodec() { }
+
+    /* -------- encode -------- */
+
+    static void encode(EventRequestDTO e, ByteBuffer b) {
+        byte mask = 0;
+        if (e.time() != null)      mask |= HAS_TIME;
+        if (e.sessionId() != null) mask |= HAS_SESSION;
+        if (e.viewId() != null)    mask |= HAS_VIEW;
+        if (e.userId() != null)    mask |= HAS_USER;
+        if (e.sampleRate() != null) mask |= HAS_RATE;
+        if (e.eventKey() != null)   mask |= HAS_KEY;
+        if (e.meta() != null)       mask |= HAS_META;
+
+        b.put(VERSION);
+        b.put(mask);
+        putString(b, e.type());
+        putString(b, e.target());
+        if (e.time() != null) {
+            b.putLong(e.time().toEpochSecond(ZoneOffset.UTC));
+            b.putInt(e.time().getNano());
+        }
+        if (e.sessionId() != null) b.putLong(e.sessionId());
+        if (e.viewId() != null)    b.putLong(e.viewId());
+        if (e.userId() != null)    b.putLong(e.userId());
+        if (e.sampleRate() != null) b.putFloat(e.sampleRate());
+        if (e.eventKey() != null)   putString(b, e.eventKey());
+        putMeta(b, e.meta());
+    }
+
+    private static void putMeta(ByteBuffer b, EventMeta meta) {
+        if (meta instanceof ClickMeta m) {
+            b.putInt(m.x()).putInt(m.y()).putInt(m.clickCount()).putInt(m.intervalAvg());
+            putString(b, m.element());
+        } else if (meta instanceof ErrorMeta m) {
+            putString(b, m.message());
+            putString(b, m.path());
+        } else if (meta instanceof HoverMeta m) {
+            putString(b, m.element());
+            b.putInt(m.duration());
+        } else if (meta instanceof ScrollMeta m) {
+            b.putInt(m.scrollPercent());
+        } else if (meta instanceof FormMeta m) {
+            putString(b, m.formName());
+            b.put((byte) (m.success() ? 1 : 0));
+            putInteger(b, m.statusCode());
+            putInteger(b, m.responseTime());
+        } else if (meta instanceof InputMeta m) {
+            putString(b, m.fieldName());
+            putString(b, m.action());
+        } else if (meta instanceof NaviMeta m) {
+            putString(b, m.fromPage());
+            putString(b, m.toPage());
+        }
+    }
+
+    /* -------- decode -------- */
+
+    static EventRequestDTO decode(ByteBuffer b) {
+        byte version = b.get();
+        if (version < VERSION_NO_META_BIT || version > VERSION) {
+            throw new IllegalStateException("지원하지 않는 저널 레코드 버전: " + version);
+        }
+        byte mask = b.get();
+        boolean hasMeta = version == VERSION_NO_META_BIT || (mask & HAS_META) != 0;
+
+        String type   = getString(b);
+        String target = getString(b);
+        LocalDateTime time = (mask & HAS_TIME) != 0
+                ? LocalDateTime.ofEpochSecond(b.getLong(), b.getInt(), ZoneOffset.UTC)
+                : null;
+        Long sessionId = (mask & HAS_SESSION) != 0 ? b.getLong() : null;
+        Long viewId    = (mask & HAS_VIEW)    != 0 ? b.getLong() : null;
+        Long userId    = (mask & HAS_USER)    != 0 ? b.getLong() : null;
+        Float rate     = (mask & HAS_RATE)    != 0 ? b.getFloat() : null;
+        String key     = (mask & HAS_KEY)     != 0 ? getString(b) : null;
+        EventMeta meta = hasMeta ? getMeta(b, type, version) : null;
+
+        return new EventRequestDTO(type, target, time, sessionId, viewId, userId, meta, key, rate);
+    }
+
+    private static EventMeta getMeta(ByteBuffer b, String type, byte version) {
+        if (type == null) return null;
+        return switch (type) {
+            case "click"  -> new ClickMeta(b.getInt(), b.getInt(), b.getInt(), b.getInt(), getString(b));
+            case "error"  -> new ErrorMeta(getString(b), getString(b));
+            case "hover"  -> new HoverMeta(getString(b), b.getInt());
+            case "scroll" -> new ScrollMeta(b.getInt());
+            case "form"   -> version <= VERSION_INT_FORM
+                    ? new FormMeta(getString(b), b.get() != 0, b.getInt(), b.getInt())
+                    : new FormMeta(getString(b), b.get() != 0, getInteger(b), getInteger(b));
+            case "input"  -> new InputMeta(getString(b), getString(b));
+            case "navi"   -> new NaviMeta(getString(b), getString(b));
+            default       -> null;
+        };
+    }
+
+    /* -------- int? -------- */
+
+    private static void putInteger(ByteBuffer b, Integer v) {
+        if (v == null) { b.put((byte) 0); return; }
+        b.put((byte) 1).putInt(v);
+    }
+
+    private static Integer getInteger(ByteBuffer b) {
+        return b.get() == 0 ? null : b.getInt();
+    }
+
+    /* -------- string -------- */
+
+    private static void putString(ByteBuffer b, String s) {
+        if (s == null) { b.putInt(-1); return; }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        b.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer b) {
+        int len = b.getInt();
+        if (len < 0) return null;
+        String s = new String(b.array(), b.arrayOffset() + b.position(), len, StandardCharsets.UTF_8);
+        b.position(b.position() + len);
+        return s;
+    }
+}
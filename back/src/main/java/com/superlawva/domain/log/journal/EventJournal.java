@@ -0,0 +1,310 @@
+package com.superlawva.domain.log.journal;
+
+import com.superlawva.domain.log.config.JournalProperties;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 이벤트 append-only 저널 (mmap 세그먼트 + group fsync)
+ * - 요청 스레드는 인코딩 후 lock 안에서 mapped buffer 에 복사만 하고, syncer 스레드의 fsync 를 기다린다
+ * - syncer 는 syncInterval 마다 그동안 쓰인 구간을 한 번에 force → 여러 요청이 fsync 1회를 공유
+ * - 위치(LSN) = 세그먼트 번호 * segmentSize + offset
+ * - 세그먼트가 maxSegments 개 쌓이면(= replayer 가 DB 를 못 따라감) append 를 거절 → 503
+ */
+@Slf4j
+@Component
+public class EventJournal implements SmartLifecycle {
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH = ThreadLocal.withInitial(() -> ByteBuffer.allocate(4096));
+
+    private final JournalProperties props;
+    private final Path dir;
+    private final int segmentSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = lock.newCondition();
+    private final CRC32C crc = new CRC32C();             // lock 안에서만 사용
+
+    private JournalSegment head;
+    private int headOffset;
+    private int syncedOffset;                            // head 에서 force 가 끝난 위치
+    private volatile long oldestSegment;
+    private volatile long writtenLsn;
+    private volatile long syncedLsn;
+
+    private Thread syncer;
+    private volatile boolean running;
+
+    public EventJournal(JournalProperties props) {
+        this.props = props;
+        this.dir = Path.of(props.dir());
+        this.segmentSize = props.segmentSize();
+    }
+
+    public boolean isEnabled() { return props.enabled(); }
+
+    /* -------- append -------- */
+
+    /**
+     * 이벤트를 저널에 기록하고 fsync 까지 기다린다.
+     * 세그먼트 상한에 걸리거나 종료 중이면 아무것도 쓰지 않고 false.
+     */
+    public boolean append(List<EventRequestDTO> reqs) {
+        List<byte[]> records = new ArrayList<>(reqs.size());
+        int bytes = 0;
+        for (EventRequestDTO req : reqs) {
+            byte[] rec = encode(req);
+            if (rec.length + JournalSegment.HEADER + 4 > segmentSize) {
+                throw new IllegalArgumentException("이벤트가 저널 세그먼트보다 큽니다.");
+            }
+            records.add(rec);
+            bytes += JournalSegment.HEADER + rec.length;
+        }
+
+        long lsn;
+        lock.lock();
+        try {
+            if (!running) return false;
+            if (!head.fits(headOffset, bytes) && liveSegments() >= props.maxSegments()) return false;
+
+            for (byte[] rec : records) {
+                if (!head.fits(headOffset, rec.length)) roll();
+                headOffset = head.write(headOffset, rec, rec.length, crc);
+            }
+            lsn = writtenLsn = lsnOf(head.index, headOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트 생성 실패", e);
+        } finally {
+            lock.unlock();
+        }
+        LockSupport.unpark(syncer);
+        return awaitSynced(lsn);
+    }
+
+    private static byte[] encode(EventRequestDTO req) {
+        ByteBuffer b = SCRATCH.get();
+        while (true) {
+            try {
+                b.clear();
+                EventCodec.encode(req, b);
+                byte[] rec = new byte[b.position()];
+                b.flip().get(rec);
+                return rec;
+            } catch (BufferOverflowException e) {
+                b = ByteBuffer.allocate(b.capacity() * 2);
+                SCRATCH.set(b);
+            }
+        }
+    }
+
+    /** head 를 봉인·force 하고 다음 세그먼트로 (lock 보유 상태) */
+    private void roll() throws IOException {
+        head.seal(headOffset);
+        head.force(syncedOffset, head.size);
+        syncedLsn = Math.max(syncedLsn, lsnOf(head.index, headOffset));
+        head.close();
+
+        head = JournalSegment.open(dir, head.index + 1, segmentSize);
+        headOffset = 0;
+        syncedOffset = 0;
+    }
+
+    private boolean awaitSynced(long lsn) {
+        lock.lock();
+        try {
+            while (syncedLsn < lsn) {
+                if (!running && syncer == null) return false;
+                synced.await(props.syncInterval().toMillis() + 100, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* -------- group fsync -------- */
+
+    private void syncLoop() {
+        long intervalNanos = props.syncInterval().toNanos();
+        while (running || writtenLsn > syncedLsn) {
+            if (writtenLsn == syncedLsn) LockSupport.parkNanos(this, intervalNanos);
+            if (!running && writtenLsn == syncedLsn) break;
+            syncOnce();
+            if (running) LockSupport.parkNanos(this, intervalNanos);   // 다음 fsync 까지 모음
+        }
+    }
+
+    private void syncOnce() {
+        JournalSegment seg;
+        int from, to;
+        long lsn;
+        lock.lock();
+        try {
+            seg = head;
+            from = syncedOffset;
+            to = headOffset;
+            lsn = writtenLsn;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            seg.force(from, to);
+        } catch (RuntimeException e) {
+            log.error("저널 fsync 실패 ({})", seg.path, e);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (seg == head) syncedOffset = Math.max(syncedOffset, to);
+            syncedLsn = Math.max(syncedLsn, lsn);
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* -------- replayer 용 -------- */
+
+    long segmentOf(long lsn) { return lsn / segmentSize; }
+    int offsetOf(long lsn)   { return (int) (lsn % segmentSize); }
+    long lsnOf(long segment, int offset) { return segment * segmentSize + offset; }
+
+    /** fsync 가 끝난 위치 (replayer 는 여기까지만 읽음) */
+    long durableLsn()   { return syncedLsn; }
+    long oldestLsn()    { return lsnOf(oldestSegment, 0); }
+    Path dir()          { return dir; }
+    int segmentSize()   { return segmentSize; }
+
+    /** segment 미만의 세그먼트 파일 삭제 (checkpoint 이후 호출) */
+    void release(long segment) {
+        for (long s = oldestSegment; s < segment; s++) {
+            try {
+                Files.deleteIfExists(JournalSegment.pathOf(dir, s));
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 삭제 실패 ({})", s, e);
+                return;
+            }
+            oldestSegment = s + 1;
+        }
+    }
+
+    public long liveSegments() {
+        JournalSegment h = head;
+        return h == null ? 0 : h.index - oldestSegment + 1;
+    }
+
+    /** 미재생 세그먼트 수 / 상한 (shedding 신호) */
+    public double utilization() {
+        return liveSegments() / (double) props.maxSegments();
+    }
+
+    /* -------- 복구 -------- */
+
+    /** 세그먼트 목록을 읽고 마지막 세그먼트의 끝(잘린 레코드 이전)을 찾아 이어 쓴다 */
+    private void recover() throws IOException {
+        Files.createDirectories(dir);
+        List<Long> segments;
+        try (Stream<Path> files = Files.list(dir)) {
+            segments = files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.endsWith(".seg"))
+                    .map(n -> Long.parseLong(n.substring(0, n.length() - 4)))
+                    .sorted()
+                    .toList();
+        }
+
+        if (segments.isEmpty()) {
+            oldestSegment = 0;
+            head = JournalSegment.open(dir, 0, segmentSize);
+            headOffset = 0;
+        } else {
+            oldestSegment = segments.get(0);
+            long last = segments.get(segments.size() - 1);
+            head = JournalSegment.open(dir, last, segmentSize);
+            int end = head.scanEnd(new CRC32C());
+            if (end < 0) {                                // 봉인된 세그먼트 → 다음 번호로 시작
+                head.close();
+                head = JournalSegment.open(dir, last + 1, segmentSize);
+                headOffset = 0;
+            } else {
+                head.zeroFrom(end);                       // 쓰다 만 레코드 제거
+                headOffset = end;
+            }
+        }
+        syncedOffset = headOffset;
+        writtenLsn = syncedLsn = lsnOf(head.index, headOffset);
+        log.info("이벤트 저널 복구 (dir={}, segments={}~{}, offset={})", dir, oldestSegment, head.index, headOffset);
+    }
+
+    /* -------- Lifecycle -------- */
+
+    @Override
+    public void start() {
+        if (!props.enabled()) return;
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 저널을 열 수 없습니다: " + dir, e);
+        }
+        running = true;
+        syncer = new Thread(this::syncLoop, "log-journal-sync");
+        syncer.setDaemon(false);
+        syncer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) return;
+        lock.lock();
+        try {
+            running = false;                              // 이후 append 는 거절
+        } finally {
+            lock.unlock();
+        }
+        LockSupport.unpark(syncer);
+        try {
+            syncer.join(props.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            syncer = null;
+            synced.signalAll();
+            head.force(syncedOffset, headOffset);
+            head.close();
+        } catch (IOException e) {
+            log.warn("저널 세그먼트 닫기 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() { return running; }
+
+    /** 웹 서버가 멈춘 뒤에 닫고, replayer 보다 늦게 종료 */
+    @Override
+    public int getPhase() { return SmartLifecycle.DEFAULT_PHASE - 4096; }
+}
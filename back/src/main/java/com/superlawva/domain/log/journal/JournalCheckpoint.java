@@ -0,0 +1,39 @@
+package com.superlawva.domain.log.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * replayer 가 DB 에 반영을 끝낸 LSN
+ * - 임시 파일에 쓰고 force 후 atomic rename → 중간에 죽어도 이전 값 또는 새 값만 남음
+ */
+final class JournalCheckpoint {
+
+    private final Path file;
+    private final Path tmp;
+
+    JournalCheckpoint(Path dir) {
+        this.file = dir.resolve("checkpoint");
+        this.tmp  = dir.resolve("checkpoint.tmp");
+    }
+
+    long load(long fallback) throws IOException {
+        if (!Files.exists(file)) return fallback;
+        byte[] bytes = Files.readAllBytes(file);
+        return bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : fallback;
+    }
+
+    void save(long lsn) throws IOException {
+        try (FileChannel ch = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ch.write(ByteBuffer.allocate(Long.BYTES).putLong(0, lsn));
+            ch.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,259 @@
+package com.superlawva.domain.log.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.superlawva.domain.log.config.JournalProperties;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import com.superlawva.domain.log.service.LogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 → MySQL 재생 (단일 스레드, 저널 순서 유지)
+ * - checkpoint 부터 durableLsn 까지 읽어 replayBatchSize 단위로 LogService#handleEvents 호출
+ * - 적재 성공 후 checkpoint 저장 → 다 읽은 세그먼트 삭제
+ * - DB 실패 시 같은 배치를 지수 backoff 로 재시도 (at-least-once: checkpoint 저장 전에 죽으면 재적재될 수 있음)
+ * - replayMaxAttempts 번 실패하면 배치를 반씩 나눠 적재, 혼자서도 영구 오류(FK 위반, 컬럼 길이 초과 등)로
+ *   실패하는 레코드만 dir/dead-letter.jsonl 에 남기고 checkpoint 를 넘김 (잘못된 이벤트 하나가 재생을 막지 않도록)
+ * - 연결 실패 / 타임아웃 같은 일시 오류는 나누지 않고 그대로 backoff (장애 중 정상 레코드를 버리지 않음)
+ */
+@Slf4j
+@Component
+public class JournalReplayer implements SmartLifecycle {
+
+    private static final long MIN_BACKOFF_MS = 100;
+    private static final long IDLE_WAIT_MS   = 50;
+    static final String DEAD_LETTER = "dead-letter.jsonl";
+
+    private final EventJournal journal;
+    private final LogService logService;
+    private final JournalProperties props;
+    private final ObjectMapper objectMapper;
+    private final CRC32C crc = new CRC32C();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    private JournalCheckpoint checkpoint;
+    private JournalSegment segment;                       // 읽는 중인 세그먼트 (별도 매핑)
+    private long position;                                // 다음에 읽을 LSN
+    private volatile long replayedLsn;
+
+    private Thread thread;
+    private volatile boolean running;
+
+    public JournalReplayer(EventJournal journal, LogService logService, JournalProperties props,
+                           ObjectMapper objectMapper) {
+        this.journal = journal;
+        this.logService = logService;
+        this.props = props;
+        this.objectMapper = objectMapper;
+    }
+
+    /** 저널에 있지만 아직 DB 에 반영되지 않은 바이트 */
+    public long lagBytes() { return Math.max(0, journal.durableLsn() - replayedLsn); }
+
+    /** 적재를 포기하고 dead-letter 로 보낸 레코드 수 */
+    public long deadLettered() { return deadLettered.get(); }
+
+    /* -------- 재생 루프 -------- */
+
+    private void replayLoop() {
+        long backoff = MIN_BACKOFF_MS;
+        int attempts = 0;
+        List<EventRequestDTO> batch = new ArrayList<>(props.replayBatchSize());
+        long batchEnd = position;
+
+        while (running) {
+            try {
+                if (batch.isEmpty()) batchEnd = readBatch(batch);
+                if (batch.isEmpty()) {
+                    sleep(IDLE_WAIT_MS);
+                    continue;
+                }
+
+                if (attempts < props.replayMaxAttempts()) logService.handleEvents(List.copyOf(batch));
+                else replayIsolating(batch);
+                commit(batchEnd);
+                batch.clear();
+                backoff = MIN_BACKOFF_MS;
+                attempts = 0;
+            } catch (IOException | UncheckedIOException e) {
+                log.error("저널 읽기/checkpoint 실패", e);
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, props.maxBackoff().toMillis());
+            } catch (RuntimeException e) {
+                attempts++;
+                log.error("저널 재생 실패 ({}건, {}회째), {}ms 후 재시도", batch.size(), attempts, backoff, e);
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, props.maxBackoff().toMillis());
+            }
+        }
+        closeSegment();
+    }
+
+    /**
+     * 반씩 나눠 앞에서부터 적재, 처리한 앞부분은 batch 에서 제거
+     * - 일시 오류면 그대로 던짐 → 남은 부분만 backoff 후 다시
+     * - 레코드 1건까지 나눠도 실패하면 dead-letter
+     */
+    private void replayIsolating(List<EventRequestDTO> batch) {
+        Deque<List<EventRequestDTO>> parts = new ArrayDeque<>();
+        parts.push(List.copyOf(batch));
+        while (!parts.isEmpty()) {
+            List<EventRequestDTO> part = parts.pop();
+            try {
+                logService.handleEvents(part);
+            } catch (RuntimeException e) {
+                if (isTransient(e)) throw e;
+                if (part.size() > 1) {
+                    int mid = part.size() / 2;
+                    parts.push(part.subList(mid, part.size()));
+                    parts.push(part.subList(0, mid));
+                    continue;
+                }
+                deadLetter(part.get(0), e);
+            }
+            batch.subList(0, part.size()).clear();
+        }
+    }
+
+    /* DB 연결 / 락 타임아웃 / 트랜잭션 시작 실패 등 → 레코드 문제가 아님 */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+
+    private void deadLetter(EventRequestDTO event, RuntimeException cause) {
+        deadLettered.incrementAndGet();
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("at", LocalDateTime.now().toString());
+        line.put("error", String.valueOf(cause.getMessage()));
+        line.put("event", event);
+        Path file = journal.dir().resolve(DEAD_LETTER);
+        try {
+            Files.write(file, (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.warn("저널 레코드 적재 불가, dead-letter 로 이동: {}", cause.getMessage());
+        } catch (IOException e) {
+            log.error("dead-letter 기록 실패, 레코드 버림: {}", event, e);
+        }
+    }
+
+    /** position 부터 durable 구간을 batch 에 채우고 마지막 레코드 다음 LSN 을 반환 */
+    private long readBatch(List<EventRequestDTO> batch) throws IOException {
+        long durable = journal.durableLsn();
+        while (batch.size() < props.replayBatchSize() && position < durable) {
+            long seg = journal.segmentOf(position);
+            int offset = journal.offsetOf(position);
+            if (segment == null || segment.index != seg) {
+                closeSegment();
+                segment = JournalSegment.open(journal.dir(), seg, journal.segmentSize());
+            }
+
+            int len = segment.lengthAt(offset);
+            ByteBuffer payload = len > 0 ? segment.read(offset, len, crc) : null;
+            if (payload == null) {                        // 봉인, 세그먼트 끝 또는 손상 → 다음 세그먼트
+                if (seg >= journal.segmentOf(durable)) break;
+                if (len > 0) log.warn("저널 레코드 CRC 불일치, 세그먼트 {} 의 나머지를 건너뜀 (offset={})", seg, offset);
+                position = journal.lsnOf(seg + 1, 0);
+                continue;
+            }
+
+            try {
+                batch.add(EventCodec.decode(payload));
+            } catch (RuntimeException e) {
+                log.warn("저널 레코드 디코딩 실패, 건너뜀 (lsn={})", position, e);
+            }
+            position += JournalSegment.HEADER + len;
+        }
+        return position;
+    }
+
+    private void commit(long lsn) throws IOException {
+        checkpoint.save(lsn);
+        replayedLsn = lsn;
+        journal.release(journal.segmentOf(lsn));
+    }
+
+    private void closeSegment() {
+        if (segment == null) return;
+        try {
+            segment.close();
+        } catch (IOException ignored) {
+            // 읽기 전용 용도라 무시
+        }
+        segment = null;
+    }
+
+    private void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /* -------- Lifecycle -------- */
+
+    @Override
+    public void start() {
+        if (!props.enabled()) return;
+        checkpoint = new JournalCheckpoint(journal.dir());
+        try {
+            position = Math.max(checkpoint.load(journal.oldestLsn()), journal.oldestLsn());
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 checkpoint 를 읽을 수 없습니다.", e);
+        }
+        replayedLsn = position;
+        log.info("저널 재생 시작 (checkpoint={}, durable={})", position, journal.durableLsn());
+
+        running = true;
+        thread = new Thread(this::replayLoop, "log-journal-replay");
+        thread.setDaemon(false);
+        thread.start();
+    }
+
+    /** 남은 구간은 저널에 그대로 두고 다음 기동 때 이어서 재생 */
+    @Override
+    public void stop() {
+        if (!running) return;
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(props.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (lagBytes() > 0) log.info("저널 미재생 {}바이트, 다음 기동 시 이어서 재생", lagBytes());
+    }
+
+    @Override
+    public boolean isRunning() { return running; }
+
+    /** 저널보다 먼저 시작하지 않고, 먼저 종료 */
+    @Override
+    public int getPhase() { return SmartLifecycle.DEFAULT_PHASE - 4096 + 1; }
+}
@@ -0,0 +1,121 @@
+package com.superlawva.domain.log.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 고정 크기 mmap 세그먼트 파일 하나
+ * <pre>
+ *  레코드 : int length | int crc32c(payload) | payload
+ *  length  0 → 아직 쓰이지 않은 영역 (파일은 0 으로 채워진 상태로 생성)
+ *  length -1 → 세그먼트 봉인, 다음 세그먼트로 이동
+ * </pre>
+ * 모든 접근은 absolute index 로 하므로 position 상태를 공유하지 않는다.
+ */
+final class JournalSegment implements Closeable {
+
+    static final int HEADER = 8;
+    static final int SEALED = -1;
+
+    final long index;
+    final Path path;
+    final int size;
+    private final FileChannel channel;
+    private final MappedByteBuffer buf;
+
+    private JournalSegment(long index, Path path, int size, FileChannel channel, MappedByteBuffer buf) {
+        this.index = index;
+        this.path = path;
+        this.size = size;
+        this.channel = channel;
+        this.buf = buf;
+    }
+
+    static Path pathOf(Path dir, long index) {
+        return dir.resolve(String.format("%016d.seg", index));
+    }
+
+    static JournalSegment open(Path dir, long index, int size) throws IOException {
+        Path path = pathOf(dir, index);
+        FileChannel ch = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);   // 파일을 size 까지 확장
+        return new JournalSegment(index, path, size, ch, buf);
+    }
+
+    static boolean exists(Path dir, long index) {
+        return Files.exists(pathOf(dir, index));
+    }
+
+    /* -------- write -------- */
+
+    /** offset 에 레코드를 쓰고 다음 offset 반환 (공간 확인은 호출자 책임) */
+    int write(int offset, byte[] payload, int len, CRC32C crc) {
+        crc.reset();
+        crc.update(payload, 0, len);
+        buf.put(offset + HEADER, payload, 0, len);
+        buf.putInt(offset + 4, (int) crc.getValue());
+        buf.putInt(offset, len);                          // length 를 마지막에 기록
+        return offset + HEADER + len;
+    }
+
+    void seal(int offset) {
+        if (offset + 4 <= size) buf.putInt(offset, SEALED);
+    }
+
+    boolean fits(int offset, int len) {
+        return offset + HEADER + len + 4 <= size;          // 봉인 마커 자리 확보
+    }
+
+    void force(int from, int to) {
+        if (to > from) buf.force(from, to - from);
+    }
+
+    /** offset 이후를 0 으로 지움 (복구 시 잘린 레코드 제거) */
+    void zeroFrom(int offset) {
+        byte[] zeros = new byte[64 * 1024];
+        for (int p = offset; p < size; p += zeros.length) {
+            buf.put(p, zeros, 0, Math.min(zeros.length, size - p));
+        }
+        buf.force();
+    }
+
+    /* -------- read -------- */
+
+    int lengthAt(int offset) {
+        return offset + 4 <= size ? buf.getInt(offset) : SEALED;
+    }
+
+    /** 레코드 payload 를 복사해 반환, CRC 불일치면 null */
+    ByteBuffer read(int offset, int len, CRC32C crc) {
+        if (len <= 0 || offset + HEADER + len > size) return null;
+        byte[] payload = new byte[len];
+        buf.get(offset + HEADER, payload);
+        crc.reset();
+        crc.update(payload);
+        return (int) crc.getValue() == buf.getInt(offset + 4) ? ByteBuffer.wrap(payload) : null;
+    }
+
+    /** 0 부터 유효한 레코드를 따라가 끝 offset 을 찾음 */
+    int scanEnd(CRC32C crc) {
+        int offset = 0;
+        while (true) {
+            int len = lengthAt(offset);
+            if (len == SEALED) return -1;
+            if (len == 0 || read(offset, len, crc) == null) return offset;
+            offset += HEADER + len;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
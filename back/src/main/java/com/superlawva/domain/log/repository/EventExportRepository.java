@@ -0,0 +1,56 @@
+package com.superlawva.domain.log.repository;
+
+import com.superlawva.domain.log.config.ExportProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 + 상세 로그 export 조회
+ * - forward-only / read-only 커서 + fetchSize 로 한 행씩 읽음 (결과를 메모리에 모으지 않음)
+ * - 구간은 Snowflake PK 범위로 걸어 PK range scan + ORDER BY id 가 정렬 없이 수행됨
+ * - Snowflake 도입 전 IDENTITY 로 발급된 행(id &lt; legacyIdLimit)은 PK 에 시각이 없으므로 time 컬럼(클라이언트 시각)으로 판단
+ *   → 두 범위 모두 PRIMARY range 라 정렬 없이 id 순, 구 행은 고정된 집합이라 매번 훑어도 크기가 늘지 않음
+ */
+@Repository
+public class EventExportRepository {
+
+    private static final String SELECT = """
+            SELECT e.id, e.type, e.target, e.time, e.session_id, e.view_id, e.user_id, e.sample_rate, pv.path,
+                   c.x, c.y, c.click_count, c.interval_avg, c.element,
+                   er.message AS error_message, er.path AS error_path,
+                   h.element AS hover_element, h.duration AS hover_duration,
+                   s.scroll_percent,
+                   f.form_name, f.success, f.status_code, f.response_time,
+                   i.field_name, i.action AS input_action,
+                   n.from_page, n.to_page
+            FROM events e
+            LEFT JOIN page_views pv ON pv.id = e.view_id
+            LEFT JOIN click_log  c  ON c.id  = e.id
+            LEFT JOIN error_log  er ON er.id = e.id
+            LEFT JOIN hover_log  h  ON h.id  = e.id
+            LEFT JOIN scroll_log s  ON s.id  = e.id
+            LEFT JOIN form_log   f  ON f.id  = e.id
+            LEFT JOIN input_log  i  ON i.id  = e.id
+            LEFT JOIN navi_log   n  ON n.id  = e.id
+            WHERE (e.id >= ? AND e.id < ?)
+               OR (e.id < ? AND e.time >= ? AND e.time < ?)
+            ORDER BY e.id
+            """;
+
+    private final JdbcTemplate streaming;
+
+    public EventExportRepository(DataSource dataSource, ExportProperties props) {
+        this.streaming = new JdbcTemplate(dataSource);
+        this.streaming.setFetchSize(props.fetchSize());
+    }
+
+    public void stream(long fromId, long toId, long legacyIdLimit,
+                       LocalDateTime from, LocalDateTime to, RowCallbackHandler handler) {
+        streaming.query(SELECT, handler, fromId, toId, legacyIdLimit, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
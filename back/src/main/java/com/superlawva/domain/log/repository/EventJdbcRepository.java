@@ -0,0 +1,62 @@
+package com.superlawva.domain.log.repository;
+
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import com.superlawva.global.id.IdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 대량 적재용 JDBC 리포지토리 (상세 로그는 EventSubtypeHandler 가 담당)
+ * - PK 는 IdGenerator 로 미리 발급하므로 generated keys 를 읽을 필요가 없음
+ * - rewriteBatchedStatements=true 와 함께 multi-row INSERT 로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventJdbcRepository {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO events (id, type, target, time, session_id, view_id, user_id, sample_rate) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+    private final IdGenerator idGenerator;
+
+    /* ---- events : 발급한 PK 를 요청 순서대로 반환 ---- */
+    public List<Long> saveEvents(List<EventRequestDTO> reqs) {
+        List<Long> ids = new ArrayList<>(reqs.size());
+        for (int i = 0; i < reqs.size(); i++) ids.add(idGenerator.nextId());
+
+        jdbc.batchUpdate(INSERT_EVENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EventRequestDTO r = reqs.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, r.type());
+                ps.setString(3, r.target());
+                ps.setTimestamp(4, r.time() == null ? null : Timestamp.valueOf(r.time()));
+                setLong(ps, 5, r.sessionId());
+                setLong(ps, 6, r.viewId());
+                setLong(ps, 7, r.userId());
+                if (r.sampleRate() == null) ps.setNull(8, Types.REAL);
+                else ps.setFloat(8, r.sampleRate());
+            }
+
+            @Override
+            public int getBatchSize() { return reqs.size(); }
+        });
+        return ids;
+    }
+
+    private static void setLong(PreparedStatement ps, int idx, Long value) throws SQLException {
+        if (value == null) ps.setNull(idx, Types.BIGINT);
+        else ps.setLong(idx, value);
+    }
+}
@@ -0,0 +1,24 @@
+package com.superlawva.domain.log.repository;
+
+import com.superlawva.domain.log.entity.EventRollupMinute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventRollupRepository extends JpaRepository<EventRollupMinute, EventRollupMinute.Key> {
+
+    @Query("""
+            select r from EventRollupMinute r
+            where r.id.bucket >= :from and r.id.bucket < :to
+              and (:path is null or r.id.path = :path)
+              and (:type is null or r.id.type = :type)
+            order by r.id.bucket
+            """)
+    List<EventRollupMinute> findSeries(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("path") String path,
+                                       @Param("type") String type);
+}
@@ -0,0 +1,47 @@
+package com.superlawva.domain.log.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * click_heatmap_hour upsert / 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeatmapJdbcRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO click_heatmap_hour (path, bucket, x, y, cnt) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)";
+    private static final String SELECT_GRID =
+            "SELECT x, y, SUM(cnt) AS cnt FROM click_heatmap_hour "
+                    + "WHERE path = ? AND bucket >= ? AND bucket < ? GROUP BY x, y";
+
+    private final JdbcTemplate jdbc;
+
+    public record Row(String path, Timestamp bucket, int x, int y, long count) {}
+
+    public record Cell(int x, int y, long count) {}
+
+    public void addAll(List<Row> rows, int chunkSize) {
+        if (rows.isEmpty()) return;
+        jdbc.batchUpdate(UPSERT, rows, chunkSize, (ps, r) -> {
+            ps.setString(1, r.path());
+            ps.setTimestamp(2, r.bucket());
+            ps.setInt(3, r.x());
+            ps.setInt(4, r.y());
+            ps.setLong(5, r.count());
+        });
+    }
+
+    public List<Cell> findGrid(String path, LocalDateTime from, LocalDateTime to) {
+        return jdbc.query(SELECT_GRID,
+                (rs, i) -> new Cell(rs.getInt("x"), rs.getInt("y"), rs.getLong("cnt")),
+                path, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
@@ -2,5 +2,24 @@ package com.superlawva.domain.log.repository;
 
 import com.superlawva.domain.log.entity.PageView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface PageViewRepository extends JpaRepository<PageView, Long> { }
\ No newline at end of file
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PageViewRepository extends JpaRepository<PageView, Long> {
+
+    /* started_at, path 두 컬럼만 조회 */
+    interface ViewStart {
+        LocalDateTime getStartedAt();
+        String getPath();
+    }
+
+    Optional<ViewStart> findStartById(Long id);
+
+    @Modifying
+    @Query("update PageView v set v.duration = :duration where v.id = :id")
+    int updateDuration(@Param("id") Long id, @Param("duration") int duration);
+}
@@ -0,0 +1,34 @@
+package com.superlawva.domain.log.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * event_rollup_minute upsert (같은 분/경로/타입이면 누적)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RollupJdbcRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO event_rollup_minute (bucket, path, type, cnt) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)";
+
+    private final JdbcTemplate jdbc;
+
+    public record Row(Timestamp bucket, String path, String type, long count) {}
+
+    public void addAll(List<Row> rows, int chunkSize) {
+        if (rows.isEmpty()) return;
+        jdbc.batchUpdate(UPSERT, rows, chunkSize, (ps, r) -> {
+            ps.setTimestamp(1, r.bucket());
+            ps.setString(2, r.path());
+            ps.setString(3, r.type());
+            ps.setLong(4, r.count());
+        });
+    }
+}
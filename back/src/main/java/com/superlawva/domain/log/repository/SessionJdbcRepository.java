@@ -0,0 +1,71 @@
+package com.superlawva.domain.log.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 활동 기록 / 유휴 세션 일괄 종료용 JDBC 리포지토리
+ * - chunk 마다 autocommit 되어 잠금이 오래 유지되지 않음
+ * - 모든 UPDATE 는 조건부라 여러 노드가 같은 세션을 동시에 다뤄도 결과가 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionJdbcRepository {
+
+    /* 더 최근 값만 반영 (다른 노드가 먼저 기록한 활동을 되돌리지 않음) */
+    private static final String TOUCH_SESSION =
+            "UPDATE sessions SET last_seen_at = ? WHERE id = ? AND end_at IS NULL "
+                    + "AND (last_seen_at IS NULL OR last_seen_at < ?)";
+    /* (end_at, last_seen_at) 인덱스 range scan, last_seen_at 이 없는 예전 행은 started_at 기준 */
+    private static final String FIND_IDLE =
+            "SELECT id, last_seen_at FROM sessions WHERE end_at IS NULL AND last_seen_at < ? LIMIT ?";
+    private static final String FIND_IDLE_LEGACY =
+            "SELECT id, started_at FROM sessions WHERE end_at IS NULL AND last_seen_at IS NULL AND started_at < ? LIMIT ?";
+    private static final String CLOSE_SESSION =
+            "UPDATE sessions SET end_at = ? WHERE id = ? AND end_at IS NULL";
+    /* 아직 열린 페이지뷰는 세션 마지막 활동 시각까지를 duration 으로 기록 */
+    private static final String CLOSE_VIEWS =
+            "UPDATE page_views SET duration = GREATEST(0, TIMESTAMPDIFF(MICROSECOND, started_at, ?) DIV 1000) "
+                    + "WHERE session_id = ? AND duration IS NULL";
+
+    private final JdbcTemplate jdbc;
+
+    public record IdleSession(long id, Timestamp lastSeen) {}
+
+    public void touchAll(List<IdleSession> seen, int chunkSize) {
+        if (seen.isEmpty()) return;
+        jdbc.batchUpdate(TOUCH_SESSION, seen, chunkSize, (ps, s) -> {
+            ps.setTimestamp(1, s.lastSeen());
+            ps.setLong(2, s.id());
+            ps.setTimestamp(3, s.lastSeen());
+        });
+    }
+
+    /** last_seen_at(없으면 started_at) 이 cutoff 이전인 열린 세션 최대 limit 건 */
+    public List<IdleSession> findIdle(Timestamp cutoff, int limit) {
+        List<IdleSession> idle = new ArrayList<>(jdbc.query(FIND_IDLE,
+                (rs, i) -> new IdleSession(rs.getLong(1), rs.getTimestamp(2)), cutoff, limit));
+        if (idle.size() < limit) {
+            idle.addAll(jdbc.query(FIND_IDLE_LEGACY,
+                    (rs, i) -> new IdleSession(rs.getLong(1), rs.getTimestamp(2)), cutoff, limit - idle.size()));
+        }
+        return idle;
+    }
+
+    public void closeAll(List<IdleSession> idle, int chunkSize) {
+        if (idle.isEmpty()) return;
+        jdbc.batchUpdate(CLOSE_VIEWS, idle, chunkSize, (ps, s) -> {
+            ps.setTimestamp(1, s.lastSeen());
+            ps.setLong(2, s.id());
+        });
+        jdbc.batchUpdate(CLOSE_SESSION, idle, chunkSize, (ps, s) -> {
+            ps.setTimestamp(1, s.lastSeen());
+            ps.setLong(2, s.id());
+        });
+    }
+}
@@ -2,6 +2,15 @@ package com.superlawva.domain.log.repository;
 
 import com.superlawva.domain.log.entity.Session;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface SessionRepository extends JpaRepository<Session, Long> {
-   }
\ No newline at end of file
+
+    @Modifying
+    @Query("update Session s set s.endAt = :endAt where s.id = :id")
+    int close(@Param("id") Long id, @Param("endAt") LocalDateTime endAt);
+}
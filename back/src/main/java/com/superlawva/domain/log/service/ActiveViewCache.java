@@ -0,0 +1,78 @@
+package com.superlawva.domain.log.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.superlawva.domain.log.config.ActiveViewProperties;
+import com.superlawva.domain.log.repository.PageViewRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+/**
+ * 열린 페이지뷰 캐시 (viewId → startedAt, path)
+ * - 종료 시 엔티티를 읽지 않고 duration 만 UPDATE 하기 위함
+ * - 이벤트 집계 시 viewId 로 path 를 찾는 용도로도 사용
+ * - 크기/TTL 로 제한, miss 면 started_at / path 컬럼만 조회
+ * - DB 에도 없는 viewId 는 MISSING 으로 missingTtl 동안 캐시 (잘못된 viewId 가 몰려도 매번 조회하지 않도록)
+ */
+@Component
+public class ActiveViewCache {
+
+    public record OpenView(LocalDateTime startedAt, String path) {}
+
+    private static final OpenView MISSING = new OpenView(null, null);
+
+    private final Cache<Long, OpenView> views;
+    private final PageViewRepository viewRepo;
+
+    public ActiveViewCache(ActiveViewProperties props, PageViewRepository viewRepo) {
+        this.viewRepo = viewRepo;
+        long ttlNanos = props.ttl().toNanos();
+        long missingTtlNanos = props.missingTtl().toNanos();
+        this.views = Caffeine.newBuilder()
+                .maximumSize(props.maxSize())
+                .expireAfter(new Expiry<Long, OpenView>() {
+                    @Override
+                    public long expireAfterCreate(Long k, OpenView v, long now) {
+                        return v == MISSING ? missingTtlNanos : ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long k, OpenView v, long now, long current) {
+                        return expireAfterCreate(k, v, now);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long k, OpenView v, long now, long current) { return current; }
+                })
+                .build();
+    }
+
+    public void opened(Long viewId, LocalDateTime startedAt, String path) {
+        views.put(viewId, new OpenView(startedAt, path));
+    }
+
+    /** 캐시에서 꺼내고 제거, 없으면 DB 에서 started_at 만 읽음 */
+    public LocalDateTime close(Long viewId) {
+        OpenView v = views.asMap().remove(viewId);
+        if (v != null && v != MISSING) return v.startedAt();
+        return load(viewId).startedAt();
+    }
+
+    /** 뷰의 path, 다른 노드에서 시작된 뷰라면 한 번 조회 후 캐시 */
+    public String pathOf(Long viewId) {
+        if (viewId == null) return null;
+        OpenView v = views.get(viewId, id -> viewRepo.findStartById(id)
+                .map(s -> new OpenView(s.getStartedAt(), s.getPath()))
+                .orElse(MISSING));
+        return v.path();
+    }
+
+    private OpenView load(Long viewId) {
+        return viewRepo.findStartById(viewId)
+                .map(s -> new OpenView(s.getStartedAt(), s.getPath()))
+                .orElseThrow(() -> new NoSuchElementException("PageView id=" + viewId + " not found"));
+    }
+}
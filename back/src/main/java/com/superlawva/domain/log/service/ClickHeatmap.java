@@ -0,0 +1,74 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.HeatmapProperties;
+import com.superlawva.domain.log.repository.HeatmapJdbcRepository;
+import com.superlawva.domain.log.repository.HeatmapJdbcRepository.Row;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클릭 히트맵 증분 집계
+ * - 클릭 좌표를 cell-size 격자로 내려 (시간, path, 셀) 카운터에 더함
+ * - 주기적으로 click_heatmap_hour 에 upsert → 조회는 셀 수만큼의 행만 읽음
+ */
+@Slf4j
+@Component
+public class ClickHeatmap {
+
+    private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1);
+
+    private record Key(long hour, String path, int x, int y) {}
+
+    private final HeatmapProperties props;
+    private final HeatmapJdbcRepository heatmapJdbcRepo;
+    private final StripedCounterMap<Key> cells;
+
+    public ClickHeatmap(HeatmapProperties props, HeatmapJdbcRepository heatmapJdbcRepo) {
+        this.props = props;
+        this.heatmapJdbcRepo = heatmapJdbcRepo;
+        this.cells = new StripedCounterMap<>(props.maxKeys());
+    }
+
+    public int cellSize() { return props.cellSize(); }
+
+    public void record(String path, int x, int y, int clickCount) {
+        if (!props.enabled() || path == null) return;
+        long hour = System.currentTimeMillis() / HOUR_MS;
+        cells.add(new Key(hour, path, snap(x), snap(y)),
+                new Key(hour, RealtimeCounters.OTHER_PATH, 0, 0),
+                Math.max(1, clickCount));
+    }
+
+    /** 좌표 → 셀 좌상단 (0 ~ maxCoordinate 로 clamp) */
+    private int snap(int v) {
+        int c = Math.min(Math.max(v, 0), props.maxCoordinate());
+        return c - c % props.cellSize();
+    }
+
+    /* -------- flush -------- */
+
+    @Scheduled(fixedDelayString = "${log.heatmap.flush-interval-ms:10000}")
+    public void flush() {
+        if (!props.enabled() || cells.isEmpty()) return;
+
+        long currentHour = System.currentTimeMillis() / HOUR_MS;
+        List<StripedCounterMap.Drained<Key>> drained = cells.drain(k -> k.hour() < currentHour);
+        if (drained.isEmpty()) return;
+
+        List<Row> rows = drained.stream()
+                .map(d -> new Row(d.key().path(), new Timestamp(d.key().hour() * HOUR_MS),
+                        d.key().x(), d.key().y(), d.count()))
+                .toList();
+        try {
+            heatmapJdbcRepo.addAll(rows, props.chunkSize());
+        } catch (RuntimeException ex) {
+            log.error("클릭 히트맵 flush 실패 ({}행), 다음 주기에 재시도", rows.size(), ex);
+            drained.forEach(d -> cells.restore(d.key(), d.count()));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.CoalesceProperties;
+import com.superlawva.domain.log.dto.EventMeta.HoverMeta;
+import com.superlawva.domain.log.dto.EventMeta.ScrollMeta;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import com.superlawva.domain.log.journal.EventJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고빈도 scroll / hover 이벤트 병합
+ * - (viewId, scroll) : 윈도 내 최대 scroll_percent 1행
+ * - (viewId, hover, element) : 윈도 내 duration 합 1행
+ * - 병합 행의 sample_rate = 1 / (대표하는 원래 이벤트 수) → 행 수 기반 집계는 1/rate 로 그대로 재가중 가능
+ * - 윈도가 닫히면 저널 → write-behind → 동기 적재 순으로 기록 (윈도 동안은 메모리에만 있음)
+ */
+@Slf4j
+@Component
+public class EventCoalescer implements SmartLifecycle {
+
+    private record Key(long viewId, String type, String element) {}
+
+    /** compute() 안에서만 변경되고, map 에서 제거된 뒤에만 읽힘 */
+    private static final class Window {
+        final EventRequestDTO first;
+        final long openedAt;
+        int maxPercent;
+        long durationSum;
+        double weight;
+
+        Window(EventRequestDTO first, long openedAt) {
+            this.first = first;
+            this.openedAt = openedAt;
+        }
+
+        Window merge(EventRequestDTO req) {
+            weight += weightOf(req);
+            if (req.meta() instanceof ScrollMeta s) maxPercent = Math.max(maxPercent, s.scrollPercent());
+            if (req.meta() instanceof HoverMeta h)  durationSum += h.duration();
+            return this;
+        }
+
+        EventRequestDTO toEvent() {
+            var meta = first.meta() instanceof HoverMeta h
+                    ? new HoverMeta(h.element(), (int) Math.min(Integer.MAX_VALUE, durationSum))
+                    : new ScrollMeta(maxPercent);
+            return new EventRequestDTO(first.type(), first.target(), first.time(), first.sessionId(),
+                    first.viewId(), first.userId(), meta, null, weight <= 1.0 ? first.sampleRate() : (float) (1.0 / weight));
+        }
+
+        private static double weightOf(EventRequestDTO req) {
+            Float rate = req.sampleRate();
+            return rate == null || rate <= 0f || rate >= 1f ? 1.0 : 1.0 / rate;
+        }
+    }
+
+    private final CoalesceProperties props;
+    private final LogService logService;
+    private final EventWriteBehindQueue writeBehind;
+    private final EventJournal journal;
+
+    private final ConcurrentHashMap<Key, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong absorbed = new AtomicLong();
+    private final AtomicLong written  = new AtomicLong();
+    private volatile boolean running;
+
+    public EventCoalescer(CoalesceProperties props, LogService logService,
+                          EventWriteBehindQueue writeBehind, EventJournal journal) {
+        this.props = props;
+        this.logService = logService;
+        this.writeBehind = writeBehind;
+        this.journal = journal;
+    }
+
+    /* -------- 병합 -------- */
+
+    /** 병합 대상이면 윈도에 합치고 true, 아니면 false (호출자가 그대로 기록) */
+    public boolean offer(EventRequestDTO req) {
+        if (!running || req.viewId() == null) return false;
+
+        Key key;
+        if (req.meta() instanceof ScrollMeta) {
+            key = new Key(req.viewId(), req.type(), null);
+        } else if (req.meta() instanceof HoverMeta h) {
+            key = new Key(req.viewId(), req.type(), h.element());
+        } else {
+            return false;
+        }
+        if (windows.size() >= props.maxEntries() && !windows.containsKey(key)) return false;
+
+        long now = System.currentTimeMillis();
+        windows.compute(key, (k, w) -> (w == null ? new Window(req, now) : w).merge(req));
+        absorbed.incrementAndGet();
+        return true;
+    }
+
+    /** 요청과 같은 길이, 병합된 자리는 null */
+    public List<EventRequestDTO> offer(List<EventRequestDTO> reqs) {
+        if (!running) return reqs;
+        List<EventRequestDTO> out = new ArrayList<>(reqs.size());
+        for (EventRequestDTO req : reqs) out.add(req == null || offer(req) ? null : req);
+        return out;
+    }
+
+    public int openWindows()     { return windows.size(); }
+    public long absorbedCount()  { return absorbed.get(); }
+    public long writtenCount()   { return written.get(); }
+
+    /* -------- flush -------- */
+
+    @Scheduled(fixedDelayString = "${log.coalesce.flush-interval-ms:1000}")
+    public void flush() {
+        if (!running) return;
+        flush(System.currentTimeMillis() - props.window().toMillis());
+    }
+
+    /** openedAt <= cutoff 인 윈도를 닫아 기록 */
+    private void flush(long cutoff) {
+        List<EventRequestDTO> closed = new ArrayList<>();
+        for (Map.Entry<Key, Window> e : windows.entrySet()) {
+            Window w = e.getValue();
+            if (w.openedAt <= cutoff && windows.remove(e.getKey(), w)) closed.add(w.toEvent());
+        }
+        if (closed.isEmpty()) return;
+
+        try {
+            write(closed);
+            written.addAndGet(closed.size());
+        } catch (RuntimeException ex) {
+            log.error("병합 이벤트 적재 실패 ({}건)", closed.size(), ex);
+        }
+    }
+
+    private void write(List<EventRequestDTO> events) {
+        if (journal.isEnabled() && journal.append(events)) return;
+        if (writeBehind.isEnabled()) {
+            int accepted = writeBehind.submit(events);
+            if (accepted == events.size()) return;
+            events = events.subList(accepted, events.size());   // 큐 포화 → 나머지는 동기 적재
+        }
+        logService.handleEvents(events);
+    }
+
+    /* -------- Lifecycle -------- */
+
+    @Override
+    public void start() {
+        running = props.enabled();
+    }
+
+    /** 남은 윈도를 모두 닫아 기록 */
+    @Override
+    public void stop() {
+        if (!running) return;
+        running = false;
+        flush(Long.MAX_VALUE);
+        log.info("이벤트 병합 종료 (병합 {}건 → {}행)", absorbed.get(), written.get());
+    }
+
+    @Override
+    public boolean isRunning() { return running; }
+
+    /** 웹 서버가 멈춘 뒤, 저널 / write-behind 보다 먼저 종료 */
+    @Override
+    public int getPhase() { return SmartLifecycle.DEFAULT_PHASE - 3072; }
+}
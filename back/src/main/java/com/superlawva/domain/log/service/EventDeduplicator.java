@@ -0,0 +1,67 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.DedupProperties;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * event_key 재전송 중복 제거 (sendBeacon 재시도, 모바일 오프라인 큐 재전송)
+ * - filter() 로 이미 본 키를 거르고, 적재가 받아들여진 뒤 record() 로 기록
+ *   → 503 으로 거절된 요청의 재시도는 중복으로 걸리지 않음
+ * - event_key 가 없는 이벤트는 그대로 통과
+ */
+@Slf4j
+@Component
+public class EventDeduplicator {
+
+    private final RotatingBloomFilter filter;
+    private final AtomicLong duplicates = new AtomicLong();
+
+    public EventDeduplicator(DedupProperties props) {
+        this.filter = props.enabled() ? new RotatingBloomFilter(props.expectedPerWindow(), props.fpp()) : null;
+        if (filter != null) {
+            log.info("이벤트 중복 제거 활성화 (window={}ms, memory={}KB)", props.windowMs(), filter.sizeInBytes() / 1024);
+        }
+    }
+
+    public boolean isDuplicate(EventRequestDTO req) {
+        if (filter == null || req.eventKey() == null) return false;
+        if (!filter.mightContain(req.eventKey())) return false;
+        duplicates.incrementAndGet();
+        return true;
+    }
+
+    /** 요청과 같은 길이, 중복 자리는 null */
+    public List<EventRequestDTO> filter(List<EventRequestDTO> reqs) {
+        if (filter == null) return reqs;
+        List<EventRequestDTO> out = new ArrayList<>(reqs.size());
+        for (EventRequestDTO req : reqs) out.add(isDuplicate(req) ? null : req);
+        return out;
+    }
+
+    public void record(EventRequestDTO req) {
+        if (filter != null && req.eventKey() != null) filter.put(req.eventKey());
+    }
+
+    /** 앞쪽 n 건만 기록 (write-behind 가 일부만 받아들인 경우) */
+    public void record(List<EventRequestDTO> reqs, int n) {
+        if (filter == null) return;
+        for (int i = 0; i < n; i++) {
+            EventRequestDTO req = reqs.get(i);
+            if (req != null) record(req);
+        }
+    }
+
+    public long duplicateCount() { return duplicates.get(); }
+
+    @Scheduled(fixedDelayString = "${log.dedup.window-ms:600000}", initialDelayString = "${log.dedup.window-ms:600000}")
+    public void rotate() {
+        if (filter != null) filter.rotate();
+    }
+}
@@ -0,0 +1,185 @@
+package com.superlawva.domain.log.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.superlawva.domain.log.config.ExportProperties;
+import com.superlawva.domain.log.repository.EventExportRepository;
+import com.superlawva.global.id.SnowflakeIdGenerator;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 이벤트 export (NDJSON / CSV)
+ * - 커서에서 읽은 행을 바로 출력 스트림에 쓰므로 메모리 사용량이 결과 크기와 무관
+ * - 구간 [from, to) 는 서버 수신 시각(Snowflake ID 의 timestamp) 기준
+ * - Snowflake 도입 전 IDENTITY id 행은 수신 시각이 없으므로 time 컬럼(클라이언트 시각) 기준으로 포함
+ */
+@Service
+public class EventExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    // IDENTITY 로 발급된 id 는 이 값에 닿을 수 없고, Snowflake id 는 EPOCH + 30일 이후 발급분이라 모두 이 값 이상
+    static final long LEGACY_ID_LIMIT =
+            SnowflakeIdGenerator.minIdAt(SnowflakeIdGenerator.EPOCH + Duration.ofDays(30).toMillis());
+
+    private final EventExportRepository exportRepo;
+    private final ObjectMapper objectMapper;
+    private final Semaphore slots;
+
+    public EventExportService(EventExportRepository exportRepo, ObjectMapper objectMapper,
+                              ExportProperties props) {
+        this.exportRepo = exportRepo;
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(props.maxConcurrent());
+    }
+
+    /** 동시 export 수 제한, 성공 시 반드시 release() */
+    public boolean tryAcquire() { return slots.tryAcquire(); }
+
+    public void release() { slots.release(); }
+
+    public void export(LocalDateTime from, LocalDateTime to, Format format, OutputStream out) throws IOException {
+        ZoneId zone = ZoneId.systemDefault();
+        long fromId = SnowflakeIdGenerator.minIdAt(from.atZone(zone).toInstant().toEpochMilli());
+        long toId   = SnowflakeIdGenerator.minIdAt(to.atZone(zone).toInstant().toEpochMilli());
+
+        try (RowWriter writer = format == Format.CSV ? new CsvWriter(out) : new NdjsonWriter(out)) {
+            exportRepo.stream(Math.max(fromId, LEGACY_ID_LIMIT), toId, LEGACY_ID_LIMIT, from, to, rs -> {
+                try {
+                    writer.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);     // 클라이언트 연결 끊김 등 → 커서 종료
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /* ================= 행 단위 writer ================= */
+
+    private abstract static class RowWriter implements Closeable {
+        protected String[] labels;
+        protected int[] types;
+
+        void write(ResultSet rs) throws SQLException, IOException {
+            if (labels == null) {
+                ResultSetMetaData md = rs.getMetaData();
+                int n = md.getColumnCount();
+                labels = new String[n];
+                types = new int[n];
+                for (int i = 0; i < n; i++) {
+                    labels[i] = md.getColumnLabel(i + 1);
+                    types[i] = md.getColumnType(i + 1);
+                }
+                begin();
+            }
+            row(rs);
+        }
+
+        protected void begin() throws IOException { }
+
+        protected abstract void row(ResultSet rs) throws SQLException, IOException;
+    }
+
+    /* ---- NDJSON : null 컬럼은 생략 ---- */
+    private class NdjsonWriter extends RowWriter {
+        private final JsonGenerator gen;
+
+        NdjsonWriter(OutputStream out) throws IOException {
+            this.gen = objectMapper.getFactory().createGenerator(out);
+        }
+
+        @Override
+        protected void row(ResultSet rs) throws SQLException, IOException {
+            gen.writeStartObject();
+            for (int i = 0; i < labels.length; i++) {
+                int col = i + 1;
+                switch (types[i]) {
+                    case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> {
+                        long v = rs.getLong(col);
+                        if (!rs.wasNull()) gen.writeNumberField(labels[i], v);
+                    }
+                    case Types.BIT, Types.BOOLEAN -> {
+                        boolean v = rs.getBoolean(col);
+                        if (!rs.wasNull()) gen.writeBooleanField(labels[i], v);
+                    }
+                    case Types.TIMESTAMP -> {
+                        Timestamp v = rs.getTimestamp(col);
+                        if (v != null) gen.writeStringField(labels[i], v.toLocalDateTime().toString());
+                    }
+                    default -> {
+                        String v = rs.getString(col);
+                        if (v != null) gen.writeStringField(labels[i], v);
+                    }
+                }
+            }
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException { gen.close(); }
+    }
+
+    /* ---- CSV : RFC 4180 escape ---- */
+    private static class CsvWriter extends RowWriter {
+        private final Writer w;
+
+        CsvWriter(OutputStream out) {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        protected void begin() throws IOException {
+            for (int i = 0; i < labels.length; i++) {
+                if (i > 0) w.write(',');
+                w.write(labels[i]);
+            }
+            w.write('\n');
+        }
+
+        @Override
+        protected void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < labels.length; i++) {
+                if (i > 0) w.write(',');
+                String v = types[i] == Types.TIMESTAMP
+                        ? toText(rs.getTimestamp(i + 1))
+                        : rs.getString(i + 1);
+                if (v != null) writeEscaped(v);
+            }
+            w.write('\n');
+        }
+
+        private static String toText(Timestamp t) {
+            return t == null ? null : t.toLocalDateTime().toString();
+        }
+
+        private void writeEscaped(String v) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < v.length() && !quote; i++) {
+                char ch = v.charAt(i);
+                quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+            }
+            if (!quote) { w.write(v); return; }
+            w.write('"');
+            w.write(v.replace("\"", "\"\""));
+            w.write('"');
+        }
+
+        @Override
+        public void close() throws IOException { w.close(); }
+    }
+}
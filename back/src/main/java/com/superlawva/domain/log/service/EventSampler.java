@@ -0,0 +1,135 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.SamplingProperties;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import com.superlawva.domain.log.journal.EventJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 타입별 샘플링 + 부하 기반 shedding (컨트롤러에서 적재 경로 앞단에 적용)
+ * - 저장 비율 = rates[type] (sheddable 타입은 여기에 loadFactor 를 곱함), alwaysKeep 타입은 항상 1.0
+ * - 남긴 이벤트에는 sampleRate 를 기록해 집계 시 1/rate 로 재가중
+ * - loadFactor 는 주기적으로 큐 깊이 / 저널 적체 / DB 적재 지연으로 다시 계산 (요청 경로는 volatile 읽기만)
+ * - DB 적재 지연은 트랜잭션 완료(커밋 flush 포함)까지, 적재가 없는 주기에는 EWMA 를 0 쪽으로 감쇠
+ */
+@Slf4j
+@Component
+public class EventSampler {
+
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final SamplingProperties props;
+    private final ObjectProvider<EventWriteBehindQueue> writeBehind;   // LogService 와 순환 참조 방지
+    private final EventJournal journal;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile double latencyEwmaMs;
+    private volatile boolean latencySampled;             // 지난 refresh 이후 recordLatency 호출 여부
+    private volatile double load;
+    private volatile double loadFactor = 1.0;
+
+    public EventSampler(SamplingProperties props,
+                        ObjectProvider<EventWriteBehindQueue> writeBehind,
+                        EventJournal journal) {
+        this.props = props;
+        this.writeBehind = writeBehind;
+        this.journal = journal;
+    }
+
+    /* -------- 샘플링 -------- */
+
+    /** 버릴 이벤트면 null, 남기면 (필요 시 sampleRate 를 붙인) 이벤트 */
+    public EventRequestDTO sample(EventRequestDTO req) {
+        if (!props.enabled() || props.alwaysKeep().contains(req.type())) return req;
+
+        double rate = props.rateOf(req.type());
+        if (props.sheddable().contains(req.type())) rate *= loadFactor;
+        if (rate >= 1.0) return req;
+
+        if (ThreadLocalRandom.current().nextDouble() >= rate) {
+            dropped.incrementAndGet();
+            return null;
+        }
+        return req.withSampleRate((float) rate);
+    }
+
+    /** 요청과 같은 길이, 버린 자리는 null (null 입력은 그대로) */
+    public List<EventRequestDTO> sample(List<EventRequestDTO> reqs) {
+        if (!props.enabled()) return reqs;
+        List<EventRequestDTO> out = new ArrayList<>(reqs.size());
+        for (EventRequestDTO req : reqs) out.add(req == null ? null : sample(req));
+        return out;
+    }
+
+    public double loadFactor()  { return loadFactor; }
+    public double load()        { return load; }
+    public long droppedCount()  { return dropped.get(); }
+
+    /* -------- 부하 신호 -------- */
+
+    /** 지금부터 현재 트랜잭션 완료까지를 DB 적재 1회로 기록 (JPA INSERT 는 커밋 시 flush 되므로) */
+    public void timeWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        long started = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordLatency(System.nanoTime() - started);
+            }
+        });
+    }
+
+    /** DB 적재 1회(단건 또는 배치)의 소요 시간 — 동시 갱신 시 일부 샘플이 유실돼도 무방 */
+    public void recordLatency(long nanos) {
+        double ms = nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        double prev = latencyEwmaMs;
+        latencyEwmaMs = prev == 0 ? ms : prev + EWMA_ALPHA * (ms - prev);
+        latencySampled = true;
+    }
+
+    /* 적재가 없던 주기 → 지연 0 샘플로 취급해 감쇠 (트래픽이 끊겨도 shedding 이 남지 않도록) */
+    private void decayLatency() {
+        if (latencySampled) {
+            latencySampled = false;
+        } else {
+            latencyEwmaMs *= 1 - EWMA_ALPHA;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${log.sampling.refresh-interval-ms:200}")
+    public void refresh() {
+        if (!props.enabled()) return;
+        decayLatency();
+
+        double queue = 0;
+        EventWriteBehindQueue q = writeBehind.getIfAvailable();
+        if (q != null && q.isEnabled()) queue = q.depth() / (double) q.capacity();
+        double segments = journal.isEnabled() ? journal.utilization() : 0;
+        double latency = latencyEwmaMs / props.latencyTargetMs();
+
+        double current = Math.max(queue, Math.max(segments, latency));
+        double factor = current <= props.shedStart()
+                ? 1.0
+                : Math.max(props.minFactor(), 1.0 - (current - props.shedStart()) / (1.0 - props.shedStart()));
+
+        if ((factor < 1.0) != (loadFactor < 1.0)) {
+            log.warn("이벤트 shedding {} (load={}, queue={}, journal={}, latency={}ms)",
+                    factor < 1.0 ? "시작" : "해제",
+                    String.format("%.2f", current), String.format("%.2f", queue),
+                    String.format("%.2f", segments), Math.round(latencyEwmaMs));
+        }
+        load = current;
+        loadFactor = factor;
+    }
+}
@@ -0,0 +1,207 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.WriteBehindProperties;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 write-behind 파이프라인
+ * - 컨트롤러는 bounded queue 에 넣고 바로 202 를 응답
+ * - 워커가 batchSize 또는 flushInterval 기준으로 모아서 LogService#handleEvents 로 적재
+ * - 종료 시 웹 서버가 요청 수신을 멈춘 뒤 남은 큐를 모두 drain
+ * - 배치 적재가 실패하면 반씩 나눠 다시 적재 → 잘못된 이벤트(FK 위반 등)만 버리고 나머지는 살림
+ *   (DB 연결 실패 같은 일시 오류는 나눠도 소용없으므로 남은 부분을 한 번에 실패 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventWriteBehindQueue implements SmartLifecycle {
+
+    private final LogService logService;
+    private final WriteBehindProperties props;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed  = new AtomicLong();
+
+    private BlockingQueue<EventRequestDTO> queue;
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public boolean isEnabled() { return props.enabled(); }
+
+    /* -------- 적재 요청 -------- */
+
+    /**
+     * 이벤트를 순서대로 큐에 넣고, 받아들인 건수를 반환한다.
+     * BLOCK / REJECT 정책에서 큐가 가득 차면 그 지점에서 멈추므로 받아들인 건은 항상 앞쪽 prefix 이다.
+     */
+    public int submit(List<EventRequestDTO> reqs) {
+        if (!running) {                                   // 비활성 또는 종료 중 → 동기 적재
+            logService.handleEvents(reqs);
+            return reqs.size();
+        }
+
+        List<EventRequestDTO> overflow = null;
+        int accepted = 0;
+        for (EventRequestDTO req : reqs) {
+            if (offer(req)) { accepted++; continue; }
+
+            switch (props.overflow()) {
+                case DROP -> { dropped.incrementAndGet(); accepted++; }
+                case CALLER_RUNS -> {
+                    if (overflow == null) overflow = new ArrayList<>();
+                    overflow.add(req);
+                    accepted++;
+                }
+                default -> { return accepted; }           // BLOCK, REJECT
+            }
+        }
+        if (overflow != null) logService.handleEvents(overflow);
+        return accepted;
+    }
+
+    private boolean offer(EventRequestDTO req) {
+        if (props.overflow() != WriteBehindProperties.Overflow.BLOCK) {
+            return queue.offer(req);
+        }
+        try {
+            return queue.offer(req, props.offerTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int depth()         { return queue == null ? 0 : queue.size(); }
+    public int capacity()      { return props.capacity(); }
+    public long droppedCount() { return dropped.get(); }
+    public long failedCount()  { return failed.get(); }
+
+    /* -------- 워커 -------- */
+
+    private void drainLoop() {
+        int batchSize = props.batchSize();
+        long flushNanos = TimeUnit.MILLISECONDS.toNanos(props.flushIntervalMs());
+        List<EventRequestDTO> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                EventRequestDTO first = queue.poll(props.flushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) break;
+
+                    EventRequestDTO next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            }
+            flush(batch);
+        }
+    }
+
+    private void flush(List<EventRequestDTO> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            write(List.copyOf(batch));
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /* 실패하면 반씩 나눠 재시도, 1건까지 나눠도 실패하면 그 건만 버림 */
+    private void write(List<EventRequestDTO> part) {
+        try {
+            logService.handleEvents(part);
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                failed.addAndGet(part.size());
+                log.error("이벤트 배치 적재 실패 ({}건)", part.size(), e);
+            } else if (part.size() == 1) {
+                failed.incrementAndGet();
+                log.warn("이벤트 적재 실패, 버림: {} ({})", part.get(0), e.getMessage());
+            } else {
+                int mid = part.size() / 2;
+                write(part.subList(0, mid));
+                write(part.subList(mid, part.size()));
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+
+    /* -------- Lifecycle -------- */
+
+    @Override
+    public void start() {
+        if (!props.enabled()) return;
+
+        queue = new ArrayBlockingQueue<>(props.capacity());
+        AtomicInteger seq = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(props.workers(), r -> {
+            Thread t = new Thread(r, "log-writer-" + seq.incrementAndGet());
+            t.setDaemon(false);
+            return t;
+        });
+        running = true;
+        for (int i = 0; i < props.workers(); i++) {
+            workers.execute(this::drainLoop);
+        }
+        log.info("이벤트 write-behind 활성화 (capacity={}, workers={}, batch={}, overflow={})",
+                props.capacity(), props.workers(), props.batchSize(), props.overflow());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) return;
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(props.shutdownTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("write-behind drain 시간 초과, 미적재 {}건", queue.size());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() { return running; }
+
+    /** 웹 서버(graceful shutdown 포함)가 멈춘 뒤에 drain 하도록 더 늦은 phase 에서 종료 */
+    @Override
+    public int getPhase() { return SmartLifecycle.DEFAULT_PHASE - 4096; }
+}
@@ -0,0 +1,81 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.service.subtype.EventSubtypeRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogService 처리 시간 (Micrometer)
+ * - 트랜잭션 안이면 커밋/롤백 완료 시점까지 측정 (JPA INSERT 는 커밋 flush 때 나가므로)
+ * - log.session / log.pageview : action=start|end
+ * - log.event : type=상세 로그가 있는 타입, 그 외는 other (클라이언트 값으로 태그가 늘지 않게)
+ * - log.event.batch : 배치 1회, log.event.batch.size : 배치 건수
+ */
+@Component
+public class LogMetrics {
+
+    private static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+    private final EventSubtypeRegistry subtypes;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Timer batch;
+    private final DistributionSummary batchSize;
+
+    public LogMetrics(MeterRegistry registry, EventSubtypeRegistry subtypes) {
+        this.registry = registry;
+        this.subtypes = subtypes;
+        this.batch = Timer.builder("log.event.batch")
+                .description("이벤트 배치 적재 시간 (커밋 포함)")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("log.event.batch.size")
+                .description("이벤트 배치 건수")
+                .baseUnit("events")
+                .register(registry);
+    }
+
+    public void timeSession(String action) {
+        timeUntilCompletion(timer("log.session", "action", "start".equals(action) ? "start" : "end"));
+    }
+
+    public void timePageView(String action) {
+        timeUntilCompletion(timer("log.pageview", "action", "start".equals(action) ? "start" : "end"));
+    }
+
+    public void timeEvent(String type) {
+        timeUntilCompletion(timer("log.event", "type", subtypes.supports(type) ? type : OTHER));
+    }
+
+    public void timeBatch(int size) {
+        batchSize.record(size);
+        timeUntilCompletion(batch);
+    }
+
+    private Timer timer(String name, String tag, String value) {
+        return timers.computeIfAbsent(name + '|' + value, k -> Timer.builder(name)
+                .tag(tag, value)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /** 지금부터 트랜잭션 완료까지 (트랜잭션 밖 직접 호출은 끝을 알 수 없으므로 기록하지 않음) */
+    private static void timeUntilCompletion(Timer timer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        long started = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+}
@@ -6,14 +6,18 @@ import com.superlawva.domain.log.dto.PageViewRequestDTO;
 import com.superlawva.domain.log.dto.SessionRequestDTO;
 import com.superlawva.domain.log.entity.*;
 import com.superlawva.domain.log.repository.*;
+import com.superlawva.domain.log.service.subtype.EventSubtypeRegistry;
 import com.superlawva.domain.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Map;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
@@ -23,20 +27,27 @@ public class LogService {
     private final SessionRepository sessionRepo;
     private final PageViewRepository viewRepo;
     private final EventRepository eventRepo;
+    private final EventJdbcRepository eventJdbcRepo;   // 배치 적재용
 
-    private final ClickLogRepository clickRepo;
-    private final ErrorLogRepository errorRepo;
-    // Hover / Scroll … 필요시 추가
+    private final EventSubtypeRegistry subtypes;    // 타입별 상세 로그
+    private final ActiveViewCache activeViews;      // 열린 페이지뷰 startedAt / path
+    private final Sessionizer sessionizer;          // 세션 활동 추적 / 유휴 종료
+    private final RealtimeCounters counters;        // 분 단위 실시간 집계
+    private final ClickHeatmap heatmap;             // 클릭 히트맵 격자 집계
+    private final EventSampler sampler;             // DB 적재 지연(커밋 포함) → shedding 신호
+    private final LogMetrics metrics;               // 처리 시간 (커밋 포함)
 
     private final UserRepository     userRepo;   // 🔑 User 엔티티 프록시용
 
     /* -------- 세션 -------- */
     @Transactional
     public Long handleSession(SessionRequestDTO req) {
+        metrics.timeSession(req.action());
 
         if ("start".equals(req.action())) {
             Session s = new Session();
             s.setStartedAt(LocalDateTime.now());
+            s.setLastSeenAt(s.getStartedAt());
             s.setDevice(req.device());
 
             // ✅ 기존 사용자 프록시 주입
@@ -44,45 +55,59 @@ public class LogService {
                 s.setUser(userRepo.getReferenceById(req.userId()));
             }
 
-            return sessionRepo.save(s).getId();
+            Long sessionId = sessionRepo.save(s).getId();
+            afterCommit(() -> sessionizer.touch(sessionId));
+            return sessionId;
         }
 
-        // -------- end --------
-        Session s = sessionRepo.findById(req.sessionId())
-                .orElseThrow();          // TODO: custom 예외로 교체
-        s.setEndAt(LocalDateTime.now());
-        return s.getId();
+        // -------- end : SELECT 없이 end_at 만 UPDATE --------
+        if (sessionRepo.close(req.sessionId(), LocalDateTime.now()) == 0) {
+            throw new NoSuchElementException("Session id=" + req.sessionId() + " not found");
+        }
+        afterCommit(() -> sessionizer.ended(req.sessionId()));
+        return req.sessionId();
     }
 
     /* -------- 페이지뷰 -------- */
     @Transactional
     public Long handlePageView(PageViewRequestDTO req) {
+        metrics.timePageView(req.action());
 
         if ("start".equals(req.action())) {
             PageView v = new PageView();
             v.setSession(sessionRepo.getReferenceById(req.sessionId()));
             v.setPath(req.path());
             v.setStartedAt(LocalDateTime.now());
-            return viewRepo.save(v).getId();
+            Long viewId = viewRepo.save(v).getId();
+            activeViews.opened(viewId, v.getStartedAt(), v.getPath());
+            afterCommit(() -> {
+                sessionizer.touch(req.sessionId());
+                counters.increment(v.getPath(), RealtimeCounters.PAGEVIEW);
+            });
+            return viewId;
         }
 
-        // -------- end --------
-        PageView v = viewRepo.findById(req.viewId())
-                .orElseThrow();
-        int duration = (int) ChronoUnit.MILLIS.between(
-                v.getStartedAt(), LocalDateTime.now());
-        v.setDuration(duration);
-        return v.getId();
+        // -------- end : startedAt 은 캐시에서, duration 만 UPDATE --------
+        LocalDateTime startedAt = activeViews.close(req.viewId());
+        int duration = (int) ChronoUnit.MILLIS.between(startedAt, LocalDateTime.now());
+        if (viewRepo.updateDuration(req.viewId(), duration) == 0) {
+            throw new NoSuchElementException("PageView id=" + req.viewId() + " not found");
+        }
+        afterCommit(() -> sessionizer.touch(req.sessionId()));
+        return req.viewId();
     }
 
     /* -------- 이벤트 + 세부 로그 -------- */
     @Transactional
     public Long handleEvent(EventRequestDTO req) {
+        metrics.timeEvent(req.type());
+        sampler.timeWrite();
 
         Event e = new Event();
         e.setType(req.type());
         e.setTarget(req.target());
         e.setTime(req.time());
+        e.setSampleRate(req.sampleRate());
         e.setSession(sessionRepo.getReferenceById(req.sessionId()));
         e.setView(viewRepo.getReferenceById(req.viewId()));
 
@@ -91,36 +116,56 @@ public class LogService {
         }
 
         eventRepo.save(e);
+        afterCommit(() -> aggregate(req));
 
-        /* --- 타입별 서브 로그 분기 --- */
-        switch (req.type()) {
-            case "click"  -> saveClickLog(e, req.meta());
-            case "error"  -> saveErrorLog(e, req.meta());
-            // case "hover" -> saveHoverLog(…);
-            // case "form"  -> …
-            default       -> { /* no-op or throw */ }
-        }
+        /* --- 타입별 서브 로그 (EventSubtypeHandler) --- */
+        subtypes.save(e, req.type(), req.meta());
         return e.getId();
     }
 
-    /* ---- click_log ---- */
-    private void saveClickLog(Event e, Map<String, Object> m) {
-        ClickLog c = new ClickLog();
-        c.setEvent(e);
-        c.setX(((Number) m.get("x")).intValue());
-        c.setY(((Number) m.get("y")).intValue());
-        c.setClickCount(((Number) m.get("click_count")).intValue());
-        c.setIntervalAvg(((Number) m.get("interval_avg")).intValue());
-        c.setElement((String) m.get("element"));
-        clickRepo.save(c);
+    /* -------- 이벤트 배치 (JDBC batch, 단일 트랜잭션) -------- */
+    @Transactional
+    public List<Long> handleEvents(List<EventRequestDTO> reqs) {
+        if (reqs.isEmpty()) return List.of();
+        metrics.timeBatch(reqs.size());
+        sampler.timeWrite();
+
+        List<Long> ids = eventJdbcRepo.saveEvents(reqs);
+
+        EventSubtypeRegistry.Batches batches = subtypes.newBatches();
+        for (int i = 0; i < reqs.size(); i++) {
+            EventRequestDTO req = reqs.get(i);
+            batches.add(req.type(), ids.get(i), req.meta());
+        }
+        batches.flush();
+        afterCommit(() -> reqs.forEach(this::aggregate));
+        return ids;
+    }
+
+    /* -------- 메모리 집계 (세션 활동, 실시간 카운터, 히트맵) : 커밋 후 -------- */
+    private void aggregate(EventRequestDTO req) {
+        sessionizer.touch(req.sessionId());
+        String path = activeViews.pathOf(req.viewId());
+        counters.increment(path, req.type(), req.weight());
+        if (req.meta() instanceof EventMeta.ClickMeta c) {
+            heatmap.record(path, c.x(), c.y(), c.clickCount());
+        }
     }
 
-    /* ---- error_log ---- */
-    private void saveErrorLog(Event e, Map<String, Object> m) {
-        ErrorLog err = new ErrorLog();
-        err.setEvent(e);
-        err.setMessage((String) m.get("message"));
-        err.setPath((String) m.get("path"));
-        errorRepo.save(err);
+    /**
+     * 커밋된 경우에만 실행 (트랜잭션 밖이면 바로 실행)
+     * - 롤백된 요청, 저널 replayer / write-behind 가 재시도한 배치가 메모리 집계에 두 번 반영되지 않도록
+     */
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 }
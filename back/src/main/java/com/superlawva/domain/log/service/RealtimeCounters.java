@@ -0,0 +1,87 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.RollupProperties;
+import com.superlawva.domain.log.repository.RollupJdbcRepository;
+import com.superlawva.domain.log.repository.RollupJdbcRepository.Row;
+import com.superlawva.domain.log.service.subtype.EventSubtypeRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (path, type, 분) 단위 실시간 카운터
+ * - 요청 스레드는 LongAdder 증가만 (striped, lock-free)
+ * - 주기적으로 sumThenReset 한 값을 event_rollup_minute 에 upsert
+ * - 분 버킷은 서버 수신 시각 기준 (클라이언트 시각으로 키가 무한히 늘어나는 것 방지)
+ * - type 은 상세 로그가 있는 타입 + pageview 만, 나머지는 "other" (클라이언트 문자열이 키 / 컬럼 길이를 늘리지 않도록)
+ * - flush 실패 시 일시 오류면 다음 주기에 재시도, 그 밖의 오류면 해당 분 집계를 버림 (계속 재시도하며 쌓이지 않도록)
+ */
+@Slf4j
+@Component
+public class RealtimeCounters {
+
+    static final String OTHER_PATH   = "(other)";
+    static final String UNKNOWN_PATH = "(unknown)";
+    static final String OTHER_TYPE   = "other";
+    public static final String PAGEVIEW = "pageview";
+    private static final long MINUTE_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private record Key(long minute, String path, String type) {}
+
+    private final RollupProperties props;
+    private final RollupJdbcRepository rollupJdbcRepo;
+    private final EventSubtypeRegistry subtypes;
+    private final StripedCounterMap<Key> counters;
+
+    public RealtimeCounters(RollupProperties props, RollupJdbcRepository rollupJdbcRepo,
+                            EventSubtypeRegistry subtypes) {
+        this.props = props;
+        this.rollupJdbcRepo = rollupJdbcRepo;
+        this.subtypes = subtypes;
+        this.counters = new StripedCounterMap<>(props.maxKeys());
+    }
+
+    public void increment(String path, String type) {
+        increment(path, type, 1);
+    }
+
+    /** n = 샘플링된 이벤트가 대표하는 원래 건수 */
+    public void increment(String path, String type, long n) {
+        if (!props.enabled() || type == null) return;
+        long minute = System.currentTimeMillis() / MINUTE_MS;
+        String p = path == null ? UNKNOWN_PATH : path;
+        String t = PAGEVIEW.equals(type) || subtypes.supports(type) ? type : OTHER_TYPE;
+        counters.add(new Key(minute, p, t), new Key(minute, OTHER_PATH, t), n);   // 카디널리티 제한
+    }
+
+    /* -------- flush -------- */
+
+    @Scheduled(fixedDelayString = "${log.rollup.flush-interval-ms:10000}")
+    public void flush() {
+        if (!props.enabled() || counters.isEmpty()) return;
+
+        long currentMinute = System.currentTimeMillis() / MINUTE_MS;
+        List<StripedCounterMap.Drained<Key>> drained = counters.drain(k -> k.minute() < currentMinute);
+        if (drained.isEmpty()) return;
+
+        List<Row> rows = drained.stream()
+                .map(d -> new Row(new Timestamp(d.key().minute() * MINUTE_MS), d.key().path(), d.key().type(), d.count()))
+                .toList();
+        try {
+            rollupJdbcRepo.addAll(rows, props.chunkSize());
+        } catch (TransientDataAccessException | RecoverableDataAccessException
+                 | DataAccessResourceFailureException ex) {
+            log.error("이벤트 집계 flush 실패 ({}행), 다음 주기에 재시도", rows.size(), ex);
+            drained.forEach(d -> counters.restore(d.key(), d.count()));
+        } catch (RuntimeException ex) {
+            log.error("이벤트 집계 flush 실패 ({}행), 재시도해도 같은 오류라 버림", rows.size(), ex);
+        }
+    }
+}
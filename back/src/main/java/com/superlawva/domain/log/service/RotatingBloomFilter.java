@@ -0,0 +1,81 @@
+package com.superlawva.domain.log.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 윈도 Bloom filter (문자열 키 중복 판정)
+ * - 세대 3개를 고정 할당해 돌려 씀: current(기록) / previous(조회만) / spare(다음 세대, 미리 비워 둠)
+ * - rotate() 마다 previous 가 만료되므로 키는 최소 1, 최대 2 윈도 동안 기억됨
+ * - 조회/기록은 키 문자를 직접 해싱 → 할당 없음, 메모리는 생성 시점에 고정
+ * - false positive 는 fpp 확률로 있고 false negative 는 없음 (rotate 경계 제외)
+ */
+final class RotatingBloomFilter {
+
+    private final AtomicLongArray[] generations = new AtomicLongArray[3];
+    private final long bits;
+    private final int hashes;
+    private volatile int current;
+
+    RotatingBloomFilter(long expectedPerWindow, double fpp) {
+        long m = (long) Math.ceil(-expectedPerWindow * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6);
+        this.bits = (long) words << 6;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedPerWindow * Math.log(2)));
+        for (int i = 0; i < generations.length; i++) generations[i] = new AtomicLongArray(words);
+    }
+
+    boolean mightContain(String key) {
+        int cur = current;
+        long h1 = hash(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        return contains(generations[cur], h1, h2) || contains(generations[(cur + 2) % 3], h1, h2);
+    }
+
+    void put(String key) {
+        AtomicLongArray gen = generations[current];
+        long h1 = hash(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long prev;
+            do {
+                prev = gen.get(word);
+                if ((prev & mask) != 0) break;
+            } while (!gen.compareAndSet(word, prev, prev | mask));
+        }
+    }
+
+    /** current → previous, spare → current, 만료된 세대는 다음 spare 로 비움 (단일 스레드에서 호출) */
+    void rotate() {
+        int next = (current + 1) % 3;
+        current = next;
+        AtomicLongArray expired = generations[(next + 1) % 3];
+        for (int i = 0; i < expired.length(); i++) expired.set(i, 0);
+    }
+
+    long sizeInBytes() { return 3 * (bits >>> 3); }
+
+    private boolean contains(AtomicLongArray gen, long h1, long h2) {
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            if ((gen.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /* 문자 단위 64bit 해시 (murmur3 fmix64 로 마무리) */
+    private static long hash(String s, long seed) {
+        long h = seed ^ s.length();
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE51A85B3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
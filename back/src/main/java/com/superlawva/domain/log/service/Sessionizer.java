@@ -0,0 +1,127 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.SessionizerProperties;
+import com.superlawva.domain.log.repository.SessionJdbcRepository;
+import com.superlawva.domain.log.repository.SessionJdbcRepository.IdleSession;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 측 세션 종료 (action=end 를 못 받은 세션 정리)
+ * <p>
+ * 요청 스레드는 세션별 마지막 활동 시각을 메모리에서만 갱신하고,
+ * 스윕 때 바뀐 것만 sessions.last_seen_at 에 batch 로 기록한 뒤
+ * DB 기준으로 last_seen_at 이 idleTimeout 보다 오래된 열린 세션을 닫는다.
+ * <ul>
+ *   <li>여러 노드가 같은 세션을 받아도 last_seen_at 은 최댓값만 남음 (sticky routing 불필요)</li>
+ *   <li>재시작해도 상태는 DB 에 있으므로 유실되지 않음 (종료 시 남은 활동도 기록)</li>
+ *   <li>DB 의 last_seen_at 은 최대 스윕 간격만큼 늦음 → idleTimeout 보다 충분히 짧아야 함</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class Sessionizer {
+
+    private static final class Activity {
+        volatile long lastSeen;
+        volatile long flushed;          // DB 에 기록한 lastSeen
+    }
+
+    private final SessionizerProperties props;
+    private final SessionJdbcRepository sessionJdbcRepo;
+    private final long timeoutMs;
+
+    private final ConcurrentHashMap<Long, Activity> active = new ConcurrentHashMap<>();
+
+    public Sessionizer(SessionizerProperties props, SessionJdbcRepository sessionJdbcRepo) {
+        this.props = props;
+        this.sessionJdbcRepo = sessionJdbcRepo;
+        this.timeoutMs = props.idleTimeout().toMillis();
+    }
+
+    /* -------- 활동 기록 -------- */
+
+    public void touch(Long sessionId) {
+        if (sessionId == null || !props.enabled()) return;
+        touch(sessionId, System.currentTimeMillis());
+    }
+
+    void touch(long sessionId, long now) {
+        Activity a = active.computeIfAbsent(sessionId, id -> new Activity());
+        if (now > a.lastSeen) a.lastSeen = now;
+    }
+
+    /** 클라이언트가 직접 종료한 세션은 추적 중단 */
+    public void ended(Long sessionId) {
+        if (sessionId != null) active.remove(sessionId);
+    }
+
+    public int activeCount() { return active.size(); }
+
+    /* -------- 스윕 -------- */
+
+    @Scheduled(fixedDelayString = "${log.sessionizer.sweep-interval-ms:30000}")
+    public void sweep() {
+        if (!props.enabled()) return;
+        long cutoff = System.currentTimeMillis() - timeoutMs;
+        flush(cutoff);
+        closeIdle(new Timestamp(cutoff));
+    }
+
+    /** 종료 시 아직 기록하지 않은 활동을 남김 (다음 기동 / 다른 노드의 스윕이 이어받음) */
+    @PreDestroy
+    public void shutdown() {
+        if (props.enabled()) flush(Long.MIN_VALUE);
+    }
+
+    /* 바뀐 lastSeen 기록, cutoff 이전에 멈춘(기록 끝난) 세션은 메모리에서 제거 */
+    private void flush(long cutoff) {
+        List<IdleSession> seen = new ArrayList<>();
+        List<Activity> touched = new ArrayList<>();
+        for (Map.Entry<Long, Activity> e : active.entrySet()) {
+            Activity a = e.getValue();
+            long last = a.lastSeen;
+            if (last != a.flushed) {
+                seen.add(new IdleSession(e.getKey(), new Timestamp(last)));
+                touched.add(a);
+            } else if (last <= cutoff && active.remove(e.getKey(), a) && a.lastSeen != last) {
+                active.putIfAbsent(e.getKey(), a);                   // 제거 직전에 touch 됨 → 복구
+            }
+        }
+        if (seen.isEmpty()) return;
+
+        try {
+            sessionJdbcRepo.touchAll(seen, props.chunkSize());
+            for (int i = 0; i < seen.size(); i++) {
+                touched.get(i).flushed = seen.get(i).lastSeen().getTime();
+            }
+        } catch (RuntimeException ex) {
+            log.error("세션 활동 기록 실패 ({}건), 다음 스윕에서 재시도", seen.size(), ex);
+        }
+    }
+
+    /* DB 기준 유휴 세션을 chunk 단위로 종료 (조건부 UPDATE 라 여러 노드가 동시에 돌아도 안전) */
+    private void closeIdle(Timestamp cutoff) {
+        int closed = 0;
+        try {
+            List<IdleSession> idle;
+            do {
+                idle = sessionJdbcRepo.findIdle(cutoff, props.chunkSize());
+                sessionJdbcRepo.closeAll(idle, props.chunkSize());
+                idle.forEach(s -> active.remove(s.id()));
+                closed += idle.size();
+            } while (idle.size() == props.chunkSize());
+        } catch (RuntimeException ex) {
+            log.error("유휴 세션 종료 실패, 다음 스윕에서 재시도", ex);
+        }
+        if (closed > 0) log.info("유휴 세션 {}건 종료 (추적 중 {}건)", closed, active.size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.superlawva.domain.log.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 키별 LongAdder 카운터 (집계기 공용)
+ * - 증가는 lock-free, 키 수는 maxKeys 로 제한 (초과 시 호출자가 준 overflow 키로 합산)
+ * - drain() 은 현재 값을 꺼내 0 으로 만들고, 닫힌 버킷 키는 맵에서 제거
+ */
+final class StripedCounterMap<K> {
+
+    record Drained<K>(K key, long count) {}
+
+    private final ConcurrentHashMap<K, LongAdder> counters = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    StripedCounterMap(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    void add(K key, K overflowKey, long n) {
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            K k = counters.size() >= maxKeys ? overflowKey : key;
+            adder = counters.computeIfAbsent(k, x -> new LongAdder());
+        }
+        adder.add(n);
+    }
+
+    /** flush 실패 시 되돌리기용 (키 제한 없이 합산) */
+    void restore(K key, long n) {
+        counters.computeIfAbsent(key, x -> new LongAdder()).add(n);
+    }
+
+    List<Drained<K>> drain(Predicate<K> closed) {
+        List<Drained<K>> out = new ArrayList<>();
+        for (Map.Entry<K, LongAdder> e : counters.entrySet()) {
+            // 닫힌 버킷은 더 이상 증가하지 않으므로 맵에서 제거 후 합산
+            if (closed.test(e.getKey())) counters.remove(e.getKey(), e.getValue());
+            long n = e.getValue().sumThenReset();
+            if (n > 0) out.add(new Drained<>(e.getKey(), n));
+        }
+        return out;
+    }
+
+    boolean isEmpty() { return counters.isEmpty(); }
+}
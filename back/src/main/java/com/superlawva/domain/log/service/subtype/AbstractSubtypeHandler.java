@@ -0,0 +1,94 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta;
+import com.superlawva.domain.log.entity.Event;
+import com.superlawva.domain.log.entity.SubLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공통 구현 : 단건은 JPA, 배치는 (eventId, meta) 를 버퍼링 후 chunk 단위 JDBC batch
+ */
+public abstract class AbstractSubtypeHandler<M extends EventMeta, E extends SubLog>
+        implements EventSubtypeHandler<M> {
+
+    private final String type;
+    private final Class<M> metaType;
+    private final JpaRepository<E, Long> repo;
+    private final JdbcTemplate jdbc;
+    private final String insertSql;
+    private final int chunkSize;
+
+    protected AbstractSubtypeHandler(String type, Class<M> metaType,
+                                     JpaRepository<E, Long> repo, JdbcTemplate jdbc,
+                                     SubtypeProperties props, String insertSql) {
+        this.type = type;
+        this.metaType = metaType;
+        this.repo = repo;
+        this.jdbc = jdbc;
+        this.insertSql = insertSql;
+        this.chunkSize = Math.max(1, props.chunkSizeOf(type));
+    }
+
+    /** meta → 엔티티 (event 는 save() 에서 연결) */
+    protected abstract E toEntity(M meta);
+
+    /** insertSql 의 파라미터 바인딩, 1번은 항상 id */
+    protected abstract void bind(PreparedStatement ps, long eventId, M meta) throws SQLException;
+
+    @Override public String type()        { return type; }
+    @Override public Class<M> metaType()  { return metaType; }
+
+    @Override
+    public void save(Event event, M meta) {
+        E entity = toEntity(meta);
+        entity.setEvent(event);
+        repo.save(entity);
+    }
+
+    @Override
+    public Batch<M> newBatch() {
+        return new JdbcBatch();
+    }
+
+    private class JdbcBatch implements Batch<M> {
+
+        private long[] ids = new long[16];
+        private final List<M> metas = new ArrayList<>();
+
+        @Override
+        public void add(long eventId, M meta) {
+            int n = metas.size();
+            if (n == ids.length) ids = Arrays.copyOf(ids, n * 2);
+            ids[n] = eventId;
+            metas.add(meta);
+        }
+
+        @Override
+        public void flush() {
+            int total = metas.size();
+            for (int from = 0; from < total; from += chunkSize) {
+                int offset = from;
+                int size = Math.min(chunkSize, total - from);
+                jdbc.batchUpdate(insertSql, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, ids[offset + i], metas.get(offset + i));
+                    }
+
+                    @Override
+                    public int getBatchSize() { return size; }
+                });
+            }
+            metas.clear();
+        }
+    }
+}
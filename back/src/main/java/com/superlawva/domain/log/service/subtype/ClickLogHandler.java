@@ -0,0 +1,44 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.ClickMeta;
+import com.superlawva.domain.log.entity.ClickLog;
+import com.superlawva.domain.log.repository.ClickLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/* ---- click_log ---- */
+@Component
+public class ClickLogHandler extends AbstractSubtypeHandler<ClickMeta, ClickLog> {
+
+    private static final String INSERT =
+            "INSERT INTO click_log (id, x, y, click_count, interval_avg, element) VALUES (?, ?, ?, ?, ?, ?)";
+
+    public ClickLogHandler(ClickLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("click", ClickMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected ClickLog toEntity(ClickMeta m) {
+        ClickLog e = new ClickLog();
+        e.setX(m.x());
+        e.setY(m.y());
+        e.setClickCount(m.clickCount());
+        e.setIntervalAvg(m.intervalAvg());
+        e.setElement(m.element());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, ClickMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setInt(2, m.x());
+        ps.setInt(3, m.y());
+        ps.setInt(4, m.clickCount());
+        ps.setInt(5, m.intervalAvg());
+        ps.setString(6, m.element());
+    }
+}
@@ -0,0 +1,38 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.ErrorMeta;
+import com.superlawva.domain.log.entity.ErrorLog;
+import com.superlawva.domain.log.repository.ErrorLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/* ---- error_log ---- */
+@Component
+public class ErrorLogHandler extends AbstractSubtypeHandler<ErrorMeta, ErrorLog> {
+
+    private static final String INSERT =
+            "INSERT INTO error_log (id, message, path) VALUES (?, ?, ?)";
+
+    public ErrorLogHandler(ErrorLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("error", ErrorMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected ErrorLog toEntity(ErrorMeta m) {
+        ErrorLog e = new ErrorLog();
+        e.setMessage(m.message());
+        e.setPath(m.path());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, ErrorMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setString(2, m.message());
+        ps.setString(3, m.path());
+    }
+}
@@ -0,0 +1,27 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.dto.EventMeta;
+import com.superlawva.domain.log.entity.Event;
+
+/**
+ * 이벤트 타입 하나의 상세 로그(click_log, hover_log …) 적재 담당
+ * - 빈으로 등록하면 {@link EventSubtypeRegistry} 가 type() 으로 찾아 씀
+ */
+public interface EventSubtypeHandler<M extends EventMeta> {
+
+    /** EventRequestDTO.type 값 */
+    String type();
+
+    Class<M> metaType();
+
+    /** 단건 경로 : Event 와 같은 영속성 컨텍스트에서 persist */
+    void save(Event event, M meta);
+
+    /** 배치 경로 : 행을 모았다가 flush() 에서 JDBC batch 로 전송 */
+    Batch<M> newBatch();
+
+    interface Batch<M extends EventMeta> {
+        void add(long eventId, M meta);
+        void flush();
+    }
+}
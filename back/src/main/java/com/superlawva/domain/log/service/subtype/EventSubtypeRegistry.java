@@ -0,0 +1,72 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.dto.EventMeta;
+import com.superlawva.domain.log.entity.Event;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * type → EventSubtypeHandler 조회 테이블
+ * - 새 상세 로그는 EventSubtypeHandler 빈만 추가하면 됨 (LogService 수정 불필요)
+ */
+@Component
+public class EventSubtypeRegistry {
+
+    private final Map<String, EventSubtypeHandler<?>> handlers = new HashMap<>();
+
+    public EventSubtypeRegistry(List<EventSubtypeHandler<?>> beans) {
+        for (EventSubtypeHandler<?> h : beans) {
+            EventSubtypeHandler<?> prev = handlers.put(h.type(), h);
+            if (prev != null) {
+                throw new IllegalStateException("이벤트 타입 '" + h.type() + "' 핸들러가 중복 등록되었습니다: "
+                        + prev.getClass().getSimpleName() + ", " + h.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /** 상세 로그 핸들러가 있는 타입인지 (메트릭 태그 제한 등) */
+    public boolean supports(String type) {
+        return type != null && handlers.containsKey(type);
+    }
+
+    /* -------- 단건 -------- */
+    public void save(Event event, String type, EventMeta meta) {
+        EventSubtypeHandler<?> h = handlers.get(type);
+        if (h != null && meta != null) save(h, event, meta);
+    }
+
+    private static <M extends EventMeta> void save(EventSubtypeHandler<M> h, Event event, EventMeta meta) {
+        h.save(event, h.metaType().cast(meta));
+    }
+
+    /* -------- 배치 -------- */
+    public Batches newBatches() {
+        return new Batches();
+    }
+
+    /** 한 번의 배치 적재 동안 타입별 버퍼를 모아 두는 객체 (스레드 간 공유 X) */
+    public class Batches {
+
+        private final Map<String, EventSubtypeHandler.Batch<?>> open = new HashMap<>();
+
+        public void add(String type, long eventId, EventMeta meta) {
+            EventSubtypeHandler<?> h = handlers.get(type);
+            if (h == null || meta == null) return;
+            add(open.computeIfAbsent(type, t -> h.newBatch()), h, eventId, meta);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <M extends EventMeta> void add(EventSubtypeHandler.Batch<?> batch, EventSubtypeHandler<M> h,
+                                               long eventId, EventMeta meta) {
+            ((EventSubtypeHandler.Batch<M>) batch).add(eventId, h.metaType().cast(meta));
+        }
+
+        public void flush() {
+            open.values().forEach(EventSubtypeHandler.Batch::flush);
+            open.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.FormMeta;
+import com.superlawva.domain.log.entity.FormLog;
+import com.superlawva.domain.log.repository.FormLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/* ---- form_log ---- */
+@Component
+public class FormLogHandler extends AbstractSubtypeHandler<FormMeta, FormLog> {
+
+    private static final String INSERT =
+            "INSERT INTO form_log (id, form_name, success, status_code, response_time) VALUES (?, ?, ?, ?, ?)";
+
+    public FormLogHandler(FormLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("form", FormMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected FormLog toEntity(FormMeta m) {
+        FormLog e = new FormLog();
+        e.setFormName(m.formName());
+        e.setSuccess(m.success());
+        e.setStatusCode(m.statusCode());
+        e.setResponseTime(m.responseTime());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, FormMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setString(2, m.formName());
+        ps.setBoolean(3, m.success());
+        ps.setObject(4, m.statusCode(), Types.INTEGER);      // null 이면 NULL
+        ps.setObject(5, m.responseTime(), Types.INTEGER);
+    }
+}
@@ -0,0 +1,38 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.HoverMeta;
+import com.superlawva.domain.log.entity.HoverLog;
+import com.superlawva.domain.log.repository.HoverLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/* ---- hover_log ---- */
+@Component
+public class HoverLogHandler extends AbstractSubtypeHandler<HoverMeta, HoverLog> {
+
+    private static final String INSERT =
+            "INSERT INTO hover_log (id, element, duration) VALUES (?, ?, ?)";
+
+    public HoverLogHandler(HoverLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("hover", HoverMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected HoverLog toEntity(HoverMeta m) {
+        HoverLog e = new HoverLog();
+        e.setElement(m.element());
+        e.setDuration(m.duration());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, HoverMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setString(2, m.element());
+        ps.setInt(3, m.duration());
+    }
+}
@@ -0,0 +1,38 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.InputMeta;
+import com.superlawva.domain.log.entity.InputLog;
+import com.superlawva.domain.log.repository.InputLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/* ---- input_log ---- */
+@Component
+public class InputLogHandler extends AbstractSubtypeHandler<InputMeta, InputLog> {
+
+    private static final String INSERT =
+            "INSERT INTO input_log (id, field_name, action) VALUES (?, ?, ?)";
+
+    public InputLogHandler(InputLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("input", InputMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected InputLog toEntity(InputMeta m) {
+        InputLog e = new InputLog();
+        e.setFieldName(m.fieldName());
+        e.setAction(m.action());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, InputMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setString(2, m.fieldName());
+        ps.setString(3, m.action());
+    }
+}
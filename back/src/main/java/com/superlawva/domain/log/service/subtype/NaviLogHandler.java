@@ -0,0 +1,38 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.NaviMeta;
+import com.superlawva.domain.log.entity.NaviLog;
+import com.superlawva.domain.log.repository.NaviLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/* ---- navi_log ---- */
+@Component
+public class NaviLogHandler extends AbstractSubtypeHandler<NaviMeta, NaviLog> {
+
+    private static final String INSERT =
+            "INSERT INTO navi_log (id, from_page, to_page) VALUES (?, ?, ?)";
+
+    public NaviLogHandler(NaviLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("navi", NaviMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected NaviLog toEntity(NaviMeta m) {
+        NaviLog e = new NaviLog();
+        e.setFromPage(m.fromPage());
+        e.setToPage(m.toPage());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, NaviMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setString(2, m.fromPage());
+        ps.setString(3, m.toPage());
+    }
+}
@@ -0,0 +1,36 @@
+package com.superlawva.domain.log.service.subtype;
+
+import com.superlawva.domain.log.config.SubtypeProperties;
+import com.superlawva.domain.log.dto.EventMeta.ScrollMeta;
+import com.superlawva.domain.log.entity.ScrollLog;
+import com.superlawva.domain.log.repository.ScrollLogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/* ---- scroll_log ---- */
+@Component
+public class ScrollLogHandler extends AbstractSubtypeHandler<ScrollMeta, ScrollLog> {
+
+    private static final String INSERT =
+            "INSERT INTO scroll_log (id, scroll_percent) VALUES (?, ?)";
+
+    public ScrollLogHandler(ScrollLogRepository repo, JdbcTemplate jdbc, SubtypeProperties props) {
+        super("scroll", ScrollMeta.class, repo, jdbc, props, INSERT);
+    }
+
+    @Override
+    protected ScrollLog toEntity(ScrollMeta m) {
+        ScrollLog e = new ScrollLog();
+        e.setScrollPercent(m.scrollPercent());
+        return e;
+    }
+
+    @Override
+    protected void bind(PreparedStatement ps, long eventId, ScrollMeta m) throws SQLException {
+        ps.setLong(1, eventId);
+        ps.setInt(2, m.scrollPercent());
+    }
+}
@@ -0,0 +1,15 @@
+package com.superlawva.domain.user.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * user.list.* 설정 (회원 목록 페이지 / 스트리밍)
+ */
+@ConfigurationProperties(prefix = "user.list")
+public record UserListProperties(
+        @DefaultValue("50")          int defaultPageSize,
+        @DefaultValue("500")         int maxPageSize,     // size 파라미터 상한
+        @DefaultValue("-2147483648") int fetchSize,       // 스트리밍: MySQL 행 단위 (Integer.MIN_VALUE)
+        @DefaultValue("2")           int maxConcurrent    // 동시 스트리밍 수 (커넥션 점유 제한)
+) {}
@@ -1,5 +1,6 @@
 package com.superlawva.domain.user.controller;
 
+import com.superlawva.global.ratelimit.RateLimit;
 import com.superlawva.global.verification.dto.request.*;
 import com.superlawva.global.verification.service.EmailVerificationService;
 import jakarta.validation.Valid;
@@ -14,12 +15,16 @@ public class EmailVerificationController {
 
     private final EmailVerificationService svc;
 
+    @RateLimit(bucket = "email-send-ip")
+    @RateLimit(bucket = "email-send-addr", key = RateLimit.Key.BODY, name = "email")
     @PostMapping("/send")
     public ResponseEntity<Void> send(@Valid @RequestBody EmailSendRequestDTO req) {
         svc.send(req.getEmail());
         return ResponseEntity.ok().build();          // ✅ ApiResponse → Void 로 단순화
     }
 
+    @RateLimit(bucket = "email-verify-ip")
+    @RateLimit(bucket = "email-verify-addr", key = RateLimit.Key.BODY, name = "email")   // 인증번호 대입 방지
     @PostMapping("/verify")
     public ResponseEntity<Void> verify(@Valid @RequestBody EmailVerifyRequestDTO req) {
         svc.verify(req.getEmail(), req.getCode());
@@ -0,0 +1,11 @@
+package com.superlawva.domain.user.controller;
+
+/**
+ * /users 목록·스트리밍 요청의 잘못된 조건 (createdFrom ≥ createdTo 등) → 400
+ */
+public class InvalidUserQueryException extends RuntimeException {
+
+    public InvalidUserQueryException(String message) {
+        super(message);
+    }
+}
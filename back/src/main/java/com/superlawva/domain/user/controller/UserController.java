@@ -1,16 +1,27 @@
 package com.superlawva.domain.user.controller;
 
+import com.superlawva.domain.user.dto.UserPageResponseDTO;
 import com.superlawva.domain.user.dto.UserRequestDTO;
 import com.superlawva.domain.user.dto.UserResponseDTO;
+import com.superlawva.domain.user.dto.UserSearchCondition;
+import com.superlawva.domain.user.entity.User;
 import com.superlawva.domain.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.persistence.Column;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.time.LocalDateTime;
 
+@Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/users")
@@ -18,10 +29,51 @@ public class UserController {
 
     private final UserService service;
 
-    @Operation(summary = "전체 회원 조회", description = "등록된 모든 회원 정보를 조회합니다.")
+    @Operation(
+            summary = "회원 목록 조회",
+            description = "id 순서로 size 건씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘기면 되며, "
+                    + "nextCursor 가 null 이면 마지막 페이지입니다. role, createdFrom/createdTo([from, to)) 로 거를 수 있습니다."
+    )
     @GetMapping
-    public List<UserResponseDTO> all() {
-        return service.findAll();
+    public UserPageResponseDTO all(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) User.Role role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        return service.findPage(cursor, size, condition(role, createdFrom, createdTo));
+    }
+
+    @Operation(
+            summary = "회원 전체 조회 (스트리밍)",
+            description = "조건에 맞는 회원 전체를 JSON 배열로 한 행씩 내려줍니다 (export 용, ADMIN 권한 필요). "
+                    + "동시 스트리밍 수를 넘으면 TOO MANY REQUESTS 를 반환합니다."
+    )
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(required = false) User.Role role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+
+        UserSearchCondition cond = condition(role, createdFrom, createdTo);
+        if (!service.tryAcquireStream()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                service.stream(cond, out);
+            } catch (IOException e) {
+                log.warn("회원 스트리밍 중단: {}", e.getMessage());
+            } finally {
+                service.releaseStream();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @Operation(summary = "회원 조회", description = "ID를 이용하여 특정 회원 정보를 조회합니다.")
@@ -53,4 +105,12 @@ public class UserController {
 
     @Column(nullable = false)
     private boolean emailVerified = false;
+
+    private static UserSearchCondition condition(User.Role role, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        UserSearchCondition cond = new UserSearchCondition(role, createdFrom, createdTo);
+        if (!cond.isValidRange()) {
+            throw new InvalidUserQueryException("createdFrom 은 createdTo 보다 이전이어야 합니다.");
+        }
+        return cond;
+    }
 }
@@ -0,0 +1,24 @@
+package com.superlawva.domain.user.controller;
+
+import com.superlawva.global.response.status.ErrorStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * /users 요청 예외 처리
+ * - 잘못된 조회 조건(InvalidUserQueryException) → 400, 그 밖의 예외는 기본 처리
+ */
+@RestControllerAdvice(assignableTypes = UserController.class)
+public class UserExceptionHandler {
+
+    @ExceptionHandler(InvalidUserQueryException.class)
+    public ResponseEntity<Map<String, String>> badRequest(InvalidUserQueryException e) {
+        ErrorStatus status = ErrorStatus.INVALID_USER_QUERY;
+        String message = e.getMessage() == null ? status.getMessage() : e.getMessage();
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", status.getCode(), "message", message));
+    }
+}
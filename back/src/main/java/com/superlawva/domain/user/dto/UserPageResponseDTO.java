@@ -0,0 +1,8 @@
+package com.superlawva.domain.user.dto;
+
+import java.util.List;
+
+/**
+ * keyset 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record UserPageResponseDTO(List<UserResponseDTO> users, Long nextCursor) {}
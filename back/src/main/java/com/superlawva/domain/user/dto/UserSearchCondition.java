@@ -0,0 +1,16 @@
+package com.superlawva.domain.user.dto;
+
+import com.superlawva.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록 필터 (모두 선택, createdAt 은 [from, to))
+ * - 구간 검증은 UserController 에서 (잘못된 조건 → 400)
+ */
+public record UserSearchCondition(User.Role role, LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    public boolean isValidRange() {
+        return createdFrom == null || createdTo == null || createdFrom.isBefore(createdTo);
+    }
+}
@@ -1,11 +1,72 @@
 package com.superlawva.domain.user.repository;
 
 import com.superlawva.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    /* 인증에 필요한 컬럼만 조회 (PrincipalCache) */
+    interface AuthView {
+        Long getKakaoId();
+        String getEmail();
+        User.Role getRole();
+    }
+
+    Optional<AuthView> findAuthByKakaoId(Long kakaoId);
+
     Optional<User> findByKakaoId(Long kakaoId);
     Optional<User> findByEmail(String email);
+
+    /**
+     * 카카오 로그인 upsert (kakao_id unique 인덱스 기준, 한 문장)
+     * - 동시에 들어온 첫 로그인도 INSERT 가 충돌하지 않고 UPDATE 로 바뀜
+     * - kakaoEmail 이 null 이면(동의 안 함) 기존 이메일 유지, nickname null 이면 기존 닉네임 유지
+     * - 값이 그대로면 updated_at 도 그대로 → MySQL 이 행을 쓰지 않음
+     * - updated_at 은 nickname / email 보다 먼저 계산해야 함 (SET 은 왼쪽부터 적용)
+     * @return MySQL affected rows (1 = 삽입 또는 변경 없음, 2 = 변경됨)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO users (kakao_id, email, nickname, role, email_verified, created_at, updated_at)
+            VALUES (:kakaoId, :email, :nickname, :role, false, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                updated_at = IF(nickname <=> COALESCE(VALUES(nickname), nickname)
+                                AND email <=> COALESCE(:kakaoEmail, email),
+                                updated_at, VALUES(updated_at)),
+                nickname   = COALESCE(VALUES(nickname), nickname),
+                email      = COALESCE(:kakaoEmail, email)
+            """, nativeQuery = true)
+    int upsertKakao(@Param("kakaoId") Long kakaoId,
+                    @Param("email") String email,
+                    @Param("kakaoEmail") String kakaoEmail,
+                    @Param("nickname") String nickname,
+                    @Param("role") String role,
+                    @Param("now") LocalDateTime now);
+
+    default int upsertKakao(Long kakaoId, String email, String kakaoEmail, String nickname) {
+        return upsertKakao(kakaoId, email, kakaoEmail, nickname, User.Role.USER.name(), LocalDateTime.now());
+    }
+
+    /* keyset 페이지 : id > after 부터 PK 순서로 limit 건 (OFFSET 없이 PK range scan) */
+    @Query("""
+            SELECT u FROM User u
+            WHERE u.id > :after
+              AND (:role IS NULL OR u.role = :role)
+              AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR u.createdAt < :createdTo)
+            ORDER BY u.id
+            """)
+    List<User> findPage(@Param("after") long after,
+                        @Param("role") User.Role role,
+                        @Param("createdFrom") LocalDateTime createdFrom,
+                        @Param("createdTo") LocalDateTime createdTo,
+                        Limit limit);
 }
@@ -0,0 +1,47 @@
+package com.superlawva.domain.user.repository;
+
+import com.superlawva.domain.user.config.UserListProperties;
+import com.superlawva.domain.user.dto.UserSearchCondition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 전체 스트리밍 조회
+ * - forward-only / read-only 커서 + fetchSize 로 한 행씩 읽음 (엔티티 / 영속성 컨텍스트를 거치지 않음)
+ * - 응답에 필요한 컬럼만 SELECT
+ */
+@Repository
+public class UserStreamRepository {
+
+    private final JdbcTemplate streaming;
+
+    public UserStreamRepository(DataSource dataSource, UserListProperties props) {
+        this.streaming = new JdbcTemplate(dataSource);
+        this.streaming.setFetchSize(props.fetchSize());
+    }
+
+    public void stream(UserSearchCondition cond, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("SELECT id, kakao_id, email, nickname, role FROM users WHERE 1 = 1");
+        List<Object> args = new ArrayList<>(3);
+        if (cond.role() != null) {
+            sql.append(" AND role = ?");
+            args.add(cond.role().name());
+        }
+        if (cond.createdFrom() != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(cond.createdFrom()));
+        }
+        if (cond.createdTo() != null) {
+            sql.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(cond.createdTo()));
+        }
+        sql.append(" ORDER BY id");
+        streaming.query(sql.toString(), handler, args.toArray());
+    }
+}
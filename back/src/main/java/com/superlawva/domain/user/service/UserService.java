@@ -1,12 +1,21 @@
 package com.superlawva.domain.user.service;
 
+import com.superlawva.domain.user.dto.UserPageResponseDTO;
 import com.superlawva.domain.user.dto.UserRequestDTO;
 import com.superlawva.domain.user.dto.UserResponseDTO;
+import com.superlawva.domain.user.dto.UserSearchCondition;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface UserService {
-    List<UserResponseDTO> findAll();
+    UserPageResponseDTO findPage(Long cursor, Integer size, UserSearchCondition cond);
+
+    /** 동시 스트리밍 수 제한, 성공 시 반드시 releaseStream() */
+    boolean tryAcquireStream();
+    void releaseStream();
+    void stream(UserSearchCondition cond, OutputStream out) throws IOException;
+
     UserResponseDTO findById(Long id);
     UserResponseDTO create(UserRequestDTO dto);
     UserResponseDTO update(Long id, UserRequestDTO dto);
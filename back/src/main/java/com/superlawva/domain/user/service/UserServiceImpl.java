@@ -1,27 +1,91 @@
 package com.superlawva.domain.user.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.superlawva.domain.user.config.UserListProperties;
+import com.superlawva.domain.user.dto.UserPageResponseDTO;
 import com.superlawva.domain.user.dto.UserRequestDTO;
 import com.superlawva.domain.user.dto.UserResponseDTO;
+import com.superlawva.domain.user.dto.UserSearchCondition;
 import com.superlawva.domain.user.entity.User;
 import com.superlawva.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.superlawva.domain.user.repository.UserStreamRepository;
+import com.superlawva.global.security.service.PrincipalCache;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
     private final UserRepository repo;
+    private final UserStreamRepository streamRepo;   // 전체 목록 스트리밍 (JDBC 커서)
+    private final PrincipalCache principals;         // JwtAuthFilter 인증 정보 캐시
+    private final ObjectMapper objectMapper;
+    private final UserListProperties listProps;
+    private final Semaphore streams;
 
+    public UserServiceImpl(UserRepository repo, UserStreamRepository streamRepo, PrincipalCache principals,
+                           ObjectMapper objectMapper, UserListProperties listProps) {
+        this.repo = repo;
+        this.streamRepo = streamRepo;
+        this.principals = principals;
+        this.objectMapper = objectMapper;
+        this.listProps = listProps;
+        this.streams = new Semaphore(listProps.maxConcurrent());
+    }
+
+    /* -------- 목록 : keyset 페이지 -------- */
     @Override
-    public List<UserResponseDTO> findAll() {
-        return repo.findAll().stream()
+    public UserPageResponseDTO findPage(Long cursor, Integer size, UserSearchCondition cond) {
+        int n = size == null ? listProps.defaultPageSize() : Math.min(Math.max(size, 1), listProps.maxPageSize());
+        List<User> rows = repo.findPage(cursor == null ? 0 : cursor,
+                cond.role(), cond.createdFrom(), cond.createdTo(), Limit.of(n + 1));   // 1건 더 읽어 다음 페이지 여부 판단
+
+        boolean hasNext = rows.size() > n;
+        List<UserResponseDTO> users = (hasNext ? rows.subList(0, n) : rows).stream()
                 .map(UserResponseDTO::from)
                 .toList();
+        return new UserPageResponseDTO(users, hasNext ? users.get(n - 1).getId() : null);
+    }
+
+    /* -------- 목록 : JSON 배열 스트리밍 -------- */
+    @Override
+    public boolean tryAcquireStream() { return streams.tryAcquire(); }
+
+    @Override
+    public void releaseStream() { streams.release(); }
+
+    @Override
+    public void stream(UserSearchCondition cond, OutputStream out) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.writeStartArray();
+            streamRepo.stream(cond, rs -> {
+                try {
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", rs.getLong(1));
+                    long kakaoId = rs.getLong(2);
+                    if (rs.wasNull()) gen.writeNullField("kakaoId");
+                    else gen.writeNumberField("kakaoId", kakaoId);
+                    gen.writeStringField("email", rs.getString(3));
+                    gen.writeStringField("nickname", rs.getString(4));
+                    gen.writeStringField("role", rs.getString(5));
+                    gen.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);     // 클라이언트 연결 끊김 등 → 커서 종료
+                }
+            });
+            gen.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     @Override
@@ -38,6 +102,7 @@ public class UserServiceImpl implements UserService {
                 .nickname(dto.getNickname())
                 .kakaoId(dto.getKakaoId())
                 .build());
+        principals.invalidate(saved.getKakaoId());   // '없음' 캐시 제거
         return UserResponseDTO.from(saved);
     }
 
@@ -53,12 +118,18 @@ public class UserServiceImpl implements UserService {
 
         u.changeNickname(dto.getNickname());
         u.changeEmail(dto.getEmail());
+        principals.invalidate(u.getKakaoId());
 
         return UserResponseDTO.from(u);
     }
 
     @Override @Transactional
-    public void delete(Long id) { repo.deleteById(id); }
+    public void delete(Long id) {
+        repo.findById(id).ifPresent(u -> {
+            principals.invalidate(u.getKakaoId());
+            repo.delete(u);
+        });
+    }
 
 
 }
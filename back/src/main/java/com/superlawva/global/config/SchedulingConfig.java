@@ -0,0 +1,12 @@
+package com.superlawva.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (세션 정리, 집계 flush 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
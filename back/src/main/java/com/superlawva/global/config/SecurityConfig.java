@@ -1,11 +1,12 @@
 package com.superlawva.global.config;
 
-import com.superlawva.domain.user.repository.UserRepository;
 import com.superlawva.global.response.status.ErrorStatus;
 import com.superlawva.global.security.filter.JwtAuthFilter;
 import com.superlawva.global.security.handler.OAuth2LoginSuccessHandler;
 import com.superlawva.global.security.service.CustomOAuth2UserService;
+import com.superlawva.global.security.service.PrincipalCache;
 import com.superlawva.global.security.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,7 +27,8 @@ public class SecurityConfig {
     private final CustomOAuth2UserService oAuth2UserService;
     private final OAuth2LoginSuccessHandler successHandler;
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -39,6 +41,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/members/**").authenticated()
+                        .requestMatchers("/log/export", "/log/export/**").hasRole("ADMIN")   // 전체 이벤트(user_id, 에러 메시지) 반출
+                        .requestMatchers("/users/stream").hasRole("ADMIN")                   // 전체 회원(email, kakaoId) 반출, 동시 스트림 수 제한
                         .anyRequest().permitAll()
                 )
                 .oauth2Login(oauth -> oauth
@@ -47,7 +51,7 @@ public class SecurityConfig {
                 );
 
         http.addFilterBefore(
-                new JwtAuthFilter(jwtUtil, userRepository),
+                new JwtAuthFilter(jwtUtil, principalCache, meterRegistry),
                 UsernamePasswordAuthenticationFilter.class
         );
 
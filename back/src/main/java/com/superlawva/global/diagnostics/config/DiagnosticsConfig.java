@@ -0,0 +1,51 @@
+package com.superlawva.global.diagnostics.config;
+
+import com.superlawva.global.diagnostics.service.SlowRequestLog;
+import com.superlawva.global.diagnostics.trace.RepositoryTracingPostProcessor;
+import com.superlawva.global.diagnostics.trace.RequestTraceFilter;
+import com.superlawva.global.diagnostics.trace.SqlCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 추적 구성 (diagnostics.enabled=false 면 전부 빠짐)
+ * - DataSource → SqlCountingDataSource, log / user repository → 호출 추적 advice
+ * - RequestTraceFilter 는 보안 필터보다 앞 (JWT 검증 시간 포함)
+ */
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsConfig {
+
+    /* BeanPostProcessor 는 static 으로 등록해 설정 클래스보다 먼저 생성 */
+    @Bean
+    static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ds && !(bean instanceof SqlCountingDataSource)
+                        ? new SqlCountingDataSource(ds)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    static RepositoryTracingPostProcessor repositoryTracingPostProcessor() {
+        return new RepositoryTracingPostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTraceFilter> requestTraceFilter(DiagnosticsProperties props,
+                                                                         SlowRequestLog slowRequests) {
+        FilterRegistrationBean<RequestTraceFilter> reg =
+                new FilterRegistrationBean<>(new RequestTraceFilter(props, slowRequests));
+        reg.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return reg;
+    }
+}
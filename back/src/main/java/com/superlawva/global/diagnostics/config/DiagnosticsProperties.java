@@ -0,0 +1,34 @@
+package com.superlawva.global.diagnostics.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * diagnostics.* 설정 (요청 추적 / JFR)
+ * - slow-request.* : 이 시간 이상 걸린 요청만 ring buffer 에 남김 (GET /actuator/slowrequests)
+ * - jfr.*          : 앱 내부에서 시작하는 JFR recording, 커스텀 이벤트만 threshold 이상일 때 기록
+ */
+@ConfigurationProperties(prefix = "diagnostics")
+public record DiagnosticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue         SlowRequest slowRequest,
+        @DefaultValue         Jfr jfr
+) {
+    public record SlowRequest(
+            @DefaultValue("500ms") Duration threshold,
+            @DefaultValue("256")   int capacity,    // 2의 거듭제곱으로 올림
+            @DefaultValue("32")    int maxSpans     // 요청당 남기는 repository 호출 수
+    ) {}
+
+    public record Jfr(
+            @DefaultValue("true")  boolean enabled,
+            @DefaultValue("100ms") Duration requestThreshold,
+            @DefaultValue("5ms")   Duration jwtThreshold,
+            @DefaultValue("20ms")  Duration repositoryThreshold,
+            @DefaultValue("6h")    Duration maxAge,
+            @DefaultValue("64MB")  DataSize maxSize
+    ) {}
+}
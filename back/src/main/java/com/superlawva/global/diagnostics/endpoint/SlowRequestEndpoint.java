@@ -0,0 +1,37 @@
+package com.superlawva.global.diagnostics.endpoint;
+
+import com.superlawva.global.diagnostics.config.DiagnosticsProperties;
+import com.superlawva.global.diagnostics.service.SlowRequestLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/slowrequests?limit=n (관리 포트, 127.0.0.1)
+ * - 최근 느린 요청을 최신순으로, 요청별 SQL 수와 시간 분해 포함
+ * - 서비스 포트에는 노출되지 않으므로 별도 인증 없음
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@ConditionalOnProperty(name = "diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SlowRequestEndpoint {
+
+    private final SlowRequestLog log;
+    private final DiagnosticsProperties props;
+
+    @ReadOperation
+    public Map<String, Object> slowRequests(@Nullable Integer limit) {
+        int n = limit == null ? log.capacity() : Math.max(0, Math.min(limit, log.capacity()));
+        return Map.of(
+                "thresholdMs", props.slowRequest().threshold().toMillis(),
+                "capacity", log.capacity(),
+                "total", log.total(),
+                "requests", log.recent(n));
+    }
+}
@@ -0,0 +1,27 @@
+package com.superlawva.global.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JwtUtil.verify 1회 (캐시 hit 포함)
+ */
+@Name("com.superlawva.JwtVerification")
+@Label("JWT Verification")
+@Category({"SuperLawVA", "Security"})
+@Description("threshold 이상 걸린 JWT 검증")
+@Threshold("5 ms")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -0,0 +1,34 @@
+package com.superlawva.global.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * log / user repository 메서드 호출 1회 (가장 바깥 호출만)
+ * - JPA save 처럼 flush 가 커밋 시점으로 미뤄지면 sqlCount 는 0 일 수 있음
+ */
+@Name("com.superlawva.RepositoryCall")
+@Label("Repository Call")
+@Category({"SuperLawVA", "Database"})
+@Description("threshold 이상 걸린 repository 호출과 그 안에서 실행된 SQL")
+@Threshold("20 ms")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("SQL Count")
+    public int sqlCount;
+
+    @Label("SQL Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sqlTime;
+}
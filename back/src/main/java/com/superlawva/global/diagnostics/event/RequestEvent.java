@@ -0,0 +1,50 @@
+package com.superlawva.global.diagnostics.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * HTTP 요청 1건 (RequestTraceFilter)
+ * - threshold 이상 걸린 요청만 기록, SQL / repository / JWT 시간은 요청 스레드 기준
+ */
+@Name("com.superlawva.Request")
+@Label("HTTP Request")
+@Category({"SuperLawVA", "Request"})
+@Description("threshold 이상 걸린 HTTP 요청과 SQL / repository / JWT 시간")
+@Threshold("100 ms")
+@StackTrace(false)
+public class RequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("SQL Count")
+    public int sqlCount;
+
+    @Label("SQL Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sqlTime;
+
+    @Label("Repository Calls")
+    public int repositoryCalls;
+
+    @Label("Repository Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long repositoryTime;
+
+    @Label("JWT Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long jwtTime;
+}
@@ -0,0 +1,66 @@
+package com.superlawva.global.diagnostics.service;
+
+import com.superlawva.global.diagnostics.config.DiagnosticsProperties;
+import com.superlawva.global.diagnostics.event.JwtVerificationEvent;
+import com.superlawva.global.diagnostics.event.RepositoryCallEvent;
+import com.superlawva.global.diagnostics.event.RequestEvent;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상시 JFR recording (이름 "superlawva")
+ * - 커스텀 이벤트 3종만 켬 → JDK 기본 이벤트 없이 오버헤드 최소
+ * - 디스크 repository 에 maxAge / maxSize 만큼만 유지, 필요할 때 덤프:
+ *   jcmd &lt;pid&gt; JFR.dump name=superlawva filename=slow.jfr
+ * - -XX:StartFlightRecording 으로 따로 켠 recording 에도 @Threshold 기본값으로 기록됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"diagnostics.enabled", "diagnostics.jfr.enabled"}, havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FlightRecording implements SmartLifecycle {
+
+    static final String NAME = "superlawva";
+
+    private final DiagnosticsProperties props;
+
+    private Recording recording;
+
+    @Override
+    public synchronized void start() {
+        DiagnosticsProperties.Jfr jfr = props.jfr();
+        Recording r = new Recording();
+        r.setName(NAME);
+        r.enable(RequestEvent.class).withThreshold(jfr.requestThreshold());
+        r.enable(JwtVerificationEvent.class).withThreshold(jfr.jwtThreshold());
+        r.enable(RepositoryCallEvent.class).withThreshold(jfr.repositoryThreshold()).withStackTrace();
+        r.setToDisk(true);
+        r.setMaxAge(jfr.maxAge());
+        r.setMaxSize(jfr.maxSize().toBytes());
+        try {
+            r.start();
+            recording = r;
+            log.info("JFR recording '{}' 시작 (request ≥ {}, jwt ≥ {}, repository ≥ {})",
+                    NAME, jfr.requestThreshold(), jfr.jwtThreshold(), jfr.repositoryThreshold());
+        } catch (RuntimeException e) {   // JFR 미지원 런타임 등 → 진단 없이 계속 동작
+            log.warn("JFR recording 시작 실패", e);
+            r.close();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recording == null) return;
+        recording.close();
+        recording = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recording != null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.superlawva.global.diagnostics.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 느린 요청 1건의 시간 분해
+ * - totalMs = jwtMs + repositoryMs + (repository 밖 SQL: 커밋 시 flush 등) + otherMs
+ * - sqlMs / sqlCount 는 요청 스레드에서 실행된 전체 SQL (repository 안팎 합계)
+ * - spans 는 repository 호출 순서대로, maxSpans 를 넘으면 spansTruncated
+ */
+public record SlowRequest(
+        LocalDateTime at,
+        String method,
+        String uri,
+        int status,
+        double totalMs,
+        double jwtMs,
+        double repositoryMs,
+        double sqlMs,
+        double otherMs,
+        int sqlCount,
+        int repositoryCalls,
+        List<Span> spans,
+        boolean spansTruncated
+) {
+    public record Span(String repository, String method, double ms, int sqlCount) {}
+}
@@ -0,0 +1,58 @@
+package com.superlawva.global.diagnostics.service;
+
+import com.superlawva.global.diagnostics.config.DiagnosticsProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 느린 요청 N건 (lock-free ring buffer)
+ * - 쓰기: 순번 getAndIncrement → 칸 하나 set, 가장 오래된 칸을 덮어씀
+ * - 읽기: 최신 순번부터 거꾸로, 그 사이 덮어쓰인 칸(순번 불일치)은 건너뜀
+ */
+@Component
+@ConditionalOnProperty(name = "diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestLog {
+
+    private record Slot(long seq, SlowRequest request) {}
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final AtomicLong seq = new AtomicLong();
+
+    public SlowRequestLog(DiagnosticsProperties props) {
+        int capacity = Integer.highestOneBit(Math.max(1, props.slowRequest().capacity() - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public void add(SlowRequest request) {
+        long s = seq.getAndIncrement();
+        slots.set((int) (s & mask), new Slot(s, request));
+    }
+
+    /** 최신순 최대 limit 건 */
+    public List<SlowRequest> recent(int limit) {
+        long end = seq.get();
+        long start = Math.max(0, end - slots.length());
+        List<SlowRequest> out = new ArrayList<>(Math.min(limit, slots.length()));
+        for (long s = end - 1; s >= start && out.size() < limit; s--) {
+            Slot slot = slots.get((int) (s & mask));
+            if (slot != null && slot.seq() == s) out.add(slot.request());
+        }
+        return out;
+    }
+
+    /** 지금까지 기록된 느린 요청 수 (덮어쓴 것 포함) */
+    public long total() {
+        return seq.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,94 @@
+package com.superlawva.global.diagnostics.trace;
+
+import com.superlawva.global.diagnostics.event.RepositoryCallEvent;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * log / user repository 빈에 호출 추적 advice 추가 (LogService, UserServiceImpl 가 쓰는 repository)
+ * - Spring Data 프록시 / @Repository 예외 변환 프록시처럼 이미 Advised 면 advice 만 맨 앞에 추가
+ * - 가장 바깥 호출만 측정: RequestTrace 에 span 으로 남기고, threshold 이상이면 JFR RepositoryCallEvent
+ */
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private static final List<String> PACKAGES = List.of(
+            "com.superlawva.domain.log.repository",
+            "com.superlawva.domain.user.repository");
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        String repository = repositoryName(bean);
+        if (repository == null) return bean;
+
+        Tracing advice = new Tracing(repository);
+        if (bean instanceof Advised advised) {
+            if (!advised.isFrozen()) advised.addAdvice(0, advice);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(advice);
+        return factory.getProxy();
+    }
+
+    /* Spring Data 프록시는 구현 클래스가 SimpleJpaRepository 라 인터페이스 이름으로 판별 */
+    private static String repositoryName(Object bean) {
+        if (bean instanceof Advised advised) {
+            for (Class<?> type : advised.getProxiedInterfaces()) {
+                if (traced(type)) return type.getSimpleName();
+            }
+        }
+        Class<?> type = ClassUtils.getUserClass(bean);
+        return traced(type) ? type.getSimpleName() : null;
+    }
+
+    private static boolean traced(Class<?> type) {
+        return PACKAGES.contains(type.getPackageName());
+    }
+
+    private record Tracing(String repository) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RequestTrace trace = RequestTrace.current();
+            if (trace.repositoryDepth++ > 0) {
+                try {
+                    return invocation.proceed();
+                } finally {
+                    trace.repositoryDepth--;
+                }
+            }
+
+            long sqlCount = trace.sqlCount;
+            long sqlNanos = trace.sqlNanos;
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            event.begin();
+            long started = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                long nanos = System.nanoTime() - started;
+                trace.repositoryDepth--;
+                int sql = (int) (trace.sqlCount - sqlCount);
+                long sqlTime = trace.sqlNanos - sqlNanos;
+                String method = invocation.getMethod().getName();
+                trace.repositoryCall(repository, method, nanos, sql, sqlTime);
+
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = method;
+                    event.sqlCount = sql;
+                    event.sqlTime = sqlTime;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.superlawva.global.diagnostics.trace;
+
+/**
+ * 스레드별 요청 추적 상태
+ * - SQL / JWT 시간은 스레드 누적값, 요청·repository 호출 단위 값은 시작 시점과의 차이로 계산 (할당 없음)
+ * - 요청 중(active)일 때만 repository 호출을 span 배열에 남김, 배열은 스레드마다 재사용
+ * - 같은 스레드에서만 읽고 쓰므로 동기화 불필요
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = ThreadLocal.withInitial(RequestTrace::new);
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /* -------- 스레드 누적 -------- */
+    long sqlCount;
+    long sqlNanos;
+    long jwtNanos;
+    int  repositoryDepth;      // repository 가 다른 repository 메서드를 부르면 바깥 호출만 측정
+
+    /* -------- 진행 중 요청 -------- */
+    boolean active;
+    int  repositoryCalls;
+    long repositoryNanos;
+    long repositorySqlNanos;   // repository 호출 안에서 실행된 SQL (나머지는 커밋 시 flush 등)
+    int  spanCount;
+    String[] spanRepository = new String[0];
+    String[] spanMethod     = new String[0];
+    long[]   spanNanos      = new long[0];
+    int[]    spanSql        = new int[0];
+
+    private RequestTrace() {}
+
+    /** JwtUtil.verify 소요 시간 */
+    public void jwt(long nanos) {
+        jwtNanos += nanos;
+    }
+
+    void sql(long nanos) {
+        sqlCount++;
+        sqlNanos += nanos;
+    }
+
+    void begin(int maxSpans) {
+        if (spanRepository.length != maxSpans) {
+            spanRepository = new String[maxSpans];
+            spanMethod     = new String[maxSpans];
+            spanNanos      = new long[maxSpans];
+            spanSql        = new int[maxSpans];
+        }
+        active = true;
+        repositoryCalls = 0;
+        repositoryNanos = 0;
+        repositorySqlNanos = 0;
+        spanCount = 0;
+    }
+
+    void end() {
+        active = false;
+    }
+
+    void repositoryCall(String repository, String method, long nanos, int sql, long sqlNanos) {
+        if (!active) return;
+        repositoryCalls++;
+        repositoryNanos += nanos;
+        repositorySqlNanos += sqlNanos;
+        if (spanCount < spanRepository.length) {
+            spanRepository[spanCount] = repository;
+            spanMethod[spanCount] = method;
+            spanNanos[spanCount] = nanos;
+            spanSql[spanCount] = sql;
+            spanCount++;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.superlawva.global.diagnostics.trace;
+
+import com.superlawva.global.diagnostics.config.DiagnosticsProperties;
+import com.superlawva.global.diagnostics.event.RequestEvent;
+import com.superlawva.global.diagnostics.service.SlowRequest;
+import com.superlawva.global.diagnostics.service.SlowRequestLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 단위 추적 (필터 체인 맨 앞)
+ * - 요청 시작 시 RequestTrace 스냅샷, 끝나면 차이로 SQL / repository / JWT 시간 계산
+ * - threshold 이상 → JFR RequestEvent / slow-request threshold 이상 → SlowRequestLog
+ * - 빠른 요청은 JFR 이벤트 객체 외에 할당 없음 (span 배열은 스레드마다 재사용)
+ * - URI 는 query string 제외 (토큰 / 이메일 등이 남지 않도록)
+ */
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequests;
+    private final long slowNanos;
+    private final int maxSpans;
+
+    public RequestTraceFilter(DiagnosticsProperties props, SlowRequestLog slowRequests) {
+        this.slowRequests = slowRequests;
+        this.slowNanos = props.slowRequest().threshold().toNanos();
+        this.maxSpans = props.slowRequest().maxSpans();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.current();
+        long sqlCount = trace.sqlCount;
+        long sqlNanos = trace.sqlNanos;
+        long jwtNanos = trace.jwtNanos;
+        trace.begin(maxSpans);
+
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            long total = System.nanoTime() - started;
+            trace.end();
+            int sql = (int) (trace.sqlCount - sqlCount);
+            long sqlTime = trace.sqlNanos - sqlNanos;
+            long jwtTime = trace.jwtNanos - jwtNanos;
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = req.getMethod();
+                event.uri = req.getRequestURI();
+                event.status = res.getStatus();
+                event.sqlCount = sql;
+                event.sqlTime = sqlTime;
+                event.repositoryCalls = trace.repositoryCalls;
+                event.repositoryTime = trace.repositoryNanos;
+                event.jwtTime = jwtTime;
+                event.commit();
+            }
+            if (total >= slowNanos) {
+                slowRequests.add(slowRequest(trace, req, res, total, sql, sqlTime, jwtTime));
+            }
+        }
+    }
+
+    private static SlowRequest slowRequest(RequestTrace trace, HttpServletRequest req, HttpServletResponse res,
+                                           long total, int sql, long sqlTime, long jwtTime) {
+        List<SlowRequest.Span> spans = new ArrayList<>(trace.spanCount);
+        for (int i = 0; i < trace.spanCount; i++) {
+            spans.add(new SlowRequest.Span(trace.spanRepository[i], trace.spanMethod[i], ms(trace.spanNanos[i]), trace.spanSql[i]));
+        }
+        long sqlOutsideRepository = sqlTime - trace.repositorySqlNanos;
+        long other = total - jwtTime - trace.repositoryNanos - sqlOutsideRepository;
+        return new SlowRequest(
+                LocalDateTime.now(),
+                req.getMethod(),
+                req.getRequestURI(),
+                res.getStatus(),
+                ms(total),
+                ms(jwtTime),
+                ms(trace.repositoryNanos),
+                ms(sqlTime),
+                ms(Math.max(0, other)),
+                sql,
+                trace.repositoryCalls,
+                spans,
+                trace.repositoryCalls > trace.spanCount);
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;   // µs 단위까지
+    }
+}
@@ -0,0 +1,90 @@
+package com.superlawva.global.diagnostics.trace;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Connection / Statement 를 감싸 execute* 호출 횟수와 시간을 RequestTrace 에 누적
+ * - JPA / JdbcTemplate 모두 이 DataSource 를 거치므로 SQL 수가 빠짐없이 잡힘
+ * - executeBatch 는 1회로 셈 (rewriteBatchedStatements 로 한 번에 전송되므로 왕복 수 기준)
+ * - unwrap / isWrapperFor 는 원본으로 위임 (Hikari 메트릭 등이 원본 풀을 찾을 수 있게)
+ * - equals / hashCode 는 프록시 자신 기준, Connection 은 ConnectionProxy 로 원본 노출
+ *   (TransactionAwareDataSourceProxy 와 같은 방식, DataSourceUtils 의 커넥션 비교가 맞도록)
+ */
+public class SqlCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final ClassLoader LOADER = SqlCountingDataSource.class.getClassLoader();
+
+    public SqlCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /** 빈 destroy 시 원본 풀(HikariDataSource.close) 종료 */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable c) c.close();
+    }
+
+    private static Connection wrap(Connection con) {
+        return (Connection) Proxy.newProxyInstance(LOADER, new Class<?>[]{ConnectionProxy.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":              return proxy == args[0];
+                case "hashCode":            return System.identityHashCode(proxy);
+                case "getTargetConnection": return con;
+            }
+            Object result = invoke(con, method, args);
+            return result instanceof Statement s && isStatementFactory(method)
+                    ? wrap(s, method.getReturnType(), (Connection) proxy)
+                    : result;
+        });
+    }
+
+    private static Object wrap(Statement stmt, Class<?> type, Connection con) {
+        return Proxy.newProxyInstance(LOADER, new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":        return proxy == args[0];
+                case "hashCode":      return System.identityHashCode(proxy);
+                case "getConnection": return con;                // 원본이 아닌 감싼 Connection
+            }
+            if (!method.getName().startsWith("execute")) return invoke(stmt, method, args);
+            long started = System.nanoTime();
+            try {
+                return invoke(stmt, method, args);
+            } finally {
+                RequestTrace.current().sql(System.nanoTime() - started);
+            }
+        });
+    }
+
+    /* createStatement / prepareStatement / prepareCall → 반환 타입(Statement / PreparedStatement / CallableStatement) 그대로 감쌈 */
+    private static boolean isStatementFactory(Method method) {
+        String name = method.getName();
+        return name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
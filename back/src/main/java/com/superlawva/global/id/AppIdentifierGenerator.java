@@ -0,0 +1,45 @@
+package com.superlawva.global.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * {@link TimeOrderedId} 의 Hibernate 구현체
+ * - IdGenerator 빈은 IdGeneratorConfig 가 Hibernate 설정({@link #SETTING})으로 넘겨준다
+ */
+public class AppIdentifierGenerator implements BeforeExecutionGenerator {
+
+    public static final String SETTING = "superlawva.id.generator";
+
+    private final transient IdGenerator delegate;
+
+    public AppIdentifierGenerator(TimeOrderedId annotation, Member member,
+                                  CustomIdGeneratorCreationContext context) {
+        Object gen = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(SETTING);
+        if (!(gen instanceof IdGenerator idGenerator)) {
+            throw new IllegalStateException("Hibernate 설정에 " + SETTING + " 가 없습니다.");
+        }
+        this.delegate = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        return delegate.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,9 @@
+package com.superlawva.global.id;
+
+/**
+ * 애플리케이션에서 INSERT 전에 PK 를 발급하는 생성기
+ * - 기본 구현은 {@link SnowflakeIdGenerator}
+ */
+public interface IdGenerator {
+    long nextId();
+}
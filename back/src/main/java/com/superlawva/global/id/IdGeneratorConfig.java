@@ -0,0 +1,22 @@
+package com.superlawva.global.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /* 노드마다 다른 id.node-id(0~1023) 를 지정해야 충돌이 없음 */
+    @Bean
+    public IdGenerator idGenerator(@Value("${id.node-id:0}") long nodeId) {
+        return new SnowflakeIdGenerator(nodeId);
+    }
+
+    /* @TimeOrderedId 가 같은 IdGenerator 인스턴스를 쓰도록 Hibernate 설정에 주입 */
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernateCustomizer(IdGenerator idGenerator) {
+        return props -> props.put(AppIdentifierGenerator.SETTING, idGenerator);
+    }
+}
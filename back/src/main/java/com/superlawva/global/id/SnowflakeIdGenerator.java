@@ -0,0 +1,62 @@
+package com.superlawva.global.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 형식 64bit ID
+ * <pre>
+ *  0 | 41bit timestamp(ms, EPOCH 기준) | 10bit nodeId | 12bit sequence
+ * </pre>
+ * - 같은 노드에서는 단조 증가 → B-tree 끝에만 추가됨
+ * - 락 없이 (timestamp, sequence) 묶음을 CAS 로 갱신
+ * - 시계가 뒤로 가면 마지막 timestamp 를 계속 사용 (sequence 소진 시 다음 ms 로 넘어감)
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int  NODE_BITS     = 10;
+    private static final int  SEQUENCE_BITS = 12;
+    public  static final long MAX_NODE_ID   = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    /** (timestamp << SEQUENCE_BITS) | sequence */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long prevTs = prev >>> SEQUENCE_BITS;
+            long now = System.currentTimeMillis() - EPOCH;
+
+            long next = now > prevTs
+                    ? now << SEQUENCE_BITS              // 새 ms → sequence 0
+                    : prev + 1;                         // 같은 ms(또는 시계 역행) → sequence 증가, 넘치면 ts+1
+            if (state.compareAndSet(prev, next)) {
+                long ts  = next >>> SEQUENCE_BITS;
+                long seq = next & SEQUENCE_MASK;
+                return (ts << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | seq;
+            }
+        }
+    }
+
+    /** ID 에 담긴 발급 시각(epoch ms) */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    /** 해당 시각(epoch ms) 이후 발급된 ID 의 하한 → 시간 구간을 PK 범위로 바꿀 때 사용 */
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0, epochMillis - EPOCH) << (NODE_BITS + SEQUENCE_BITS);
+    }
+}
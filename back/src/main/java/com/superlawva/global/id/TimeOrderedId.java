@@ -0,0 +1,17 @@
+package com.superlawva.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link IdGenerator} 빈으로 PK 를 메모리에서 발급 (IDENTITY 대체)
+ * - persist 시점에 ID 가 정해지므로 Hibernate JDBC batch insert 가 가능
+ */
+@IdGeneratorType(AppIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId { }
@@ -0,0 +1,47 @@
+package com.superlawva.global.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 로컬 / 테스트용 메일 발송기 (mail.sender=local)
+ * - 실제로 보내지 않고 로그로 남기며 최근 메시지를 메모리에 보관
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "mail.sender", havingValue = "local")
+public class LocalMailSender implements MailSender {
+
+    public record Sent(String to, String subject, String html) {}
+
+    private static final int KEEP = 100;
+
+    private final Deque<Sent> sent = new ArrayDeque<>();
+
+    @Override
+    public void send(String to, String subject, String html) {
+        log.info("[local-mail] to={} subject={}", to, subject);
+        synchronized (sent) {
+            if (sent.size() == KEEP) sent.removeFirst();
+            sent.addLast(new Sent(to, subject, html));
+        }
+    }
+
+    /** 최근 보낸 메시지 (오래된 순) */
+    public List<Sent> sent() {
+        synchronized (sent) {
+            return List.copyOf(sent);
+        }
+    }
+
+    public void clear() {
+        synchronized (sent) {
+            sent.clear();
+        }
+    }
+}
@@ -2,4 +2,32 @@ package com.superlawva.global.mail;
 
 public interface MailSender {
     void send(String to, String subject, String html);
+
+    /**
+     * 여러 통을 같은 연결로 보내기 위한 채널 (MailDispatcher 워커가 스레드마다 하나씩 유지)
+     * - 기본 구현은 매번 send() 호출
+     */
+    default Connection open() {
+        return new Connection() {
+            @Override
+            public void send(String to, String subject, String html) {
+                MailSender.this.send(to, subject, html);
+            }
+
+            @Override
+            public boolean isOpen() { return true; }
+
+            @Override
+            public void close() { }
+        };
+    }
+
+    interface Connection extends AutoCloseable {
+        void send(String to, String subject, String html);
+
+        boolean isOpen();
+
+        @Override
+        void close();
+    }
 }
@@ -1,28 +1,113 @@
 package com.superlawva.global.mail;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "mail.sender", havingValue = "smtp", matchIfMissing = true)
 public class SmtpMailSender implements MailSender {
 
     private final JavaMailSender sender;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void send(String to, String subject, String html) {
+        long started = System.nanoTime();
+        boolean ok = false;
         try {
-            MimeMessage msg = sender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(msg, "UTF-8");
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(html, true);
-            sender.send(msg);
+            sender.send(build(to, subject, html));
+            ok = true;
         } catch (Exception e) {
             throw new IllegalStateException("메일 전송 실패", e);
+        } finally {
+            record("single", ok, started);
+        }
+    }
+
+    /**
+     * mail.send 지연 분포
+     * - connection=single(매번 연결) | pooled(워커 연결 재사용), outcome=success|failure
+     */
+    private void record(String connection, boolean ok, long started) {
+        Timer.builder("mail.send")
+                .tag("connection", connection)
+                .tag("outcome", ok ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    /** SMTP 연결(Transport)을 열어 두고 재사용 — 메시지마다 handshake / STARTTLS / AUTH 를 반복하지 않음 */
+    @Override
+    public Connection open() {
+        if (!(sender instanceof JavaMailSenderImpl impl)) return MailSender.super.open();
+        try {
+            Transport transport = impl.getSession().getTransport(impl.getProtocol());
+            transport.connect(impl.getHost(), impl.getPort(), impl.getUsername(), impl.getPassword());
+            return new SmtpConnection(transport);
+        } catch (MessagingException e) {
+            throw new IllegalStateException("SMTP 연결 실패", e);
+        }
+    }
+
+    private MimeMessage build(String to, String subject, String html) throws MessagingException {
+        MimeMessage msg = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(msg, "UTF-8");
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(html, true);
+        return msg;
+    }
+
+    private class SmtpConnection implements Connection {
+        private final Transport transport;
+
+        SmtpConnection(Transport transport) {
+            this.transport = transport;
+        }
+
+        @Override
+        public void send(String to, String subject, String html) {
+            long started = System.nanoTime();
+            boolean ok = false;
+            try {
+                MimeMessage msg = build(to, subject, html);
+                msg.setSentDate(new Date());
+                msg.saveChanges();
+                transport.sendMessage(msg, msg.getAllRecipients());
+                ok = true;
+            } catch (MessagingException e) {
+                throw new IllegalStateException("메일 전송 실패", e);
+            } finally {
+                record("pooled", ok, started);
+            }
+        }
+
+        @Override
+        public boolean isOpen() { return transport.isConnected(); }
+
+        @Override
+        public void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패", e);
+            }
         }
     }
 }
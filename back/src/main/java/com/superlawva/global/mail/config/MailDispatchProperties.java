@@ -0,0 +1,23 @@
+package com.superlawva.global.mail.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * mail.dispatch.* 설정 (mail_outbox 비동기 발송)
+ */
+@ConfigurationProperties(prefix = "mail.dispatch")
+public record MailDispatchProperties(
+        @DefaultValue("true")  boolean enabled,
+        @DefaultValue("2")     int workers,            // SMTP 연결 수 = 워커 수
+        @DefaultValue("50")    int batchSize,          // 한 번에 가져오는 행 수
+        @DefaultValue("5s")    Duration pollInterval,  // 커밋 알림이 없을 때 outbox 확인 주기
+        @DefaultValue("2m")    Duration lease,         // 발송 중 행 점유 시간 (넘으면 다른 워커/노드가 재시도)
+        @DefaultValue("6")     int maxAttempts,
+        @DefaultValue("5s")    Duration initialBackoff,
+        @DefaultValue("10m")   Duration maxBackoff,
+        @DefaultValue("30s")   Duration idleTimeout,   // 이 시간 동안 보낼 메일이 없으면 SMTP 연결 종료
+        @DefaultValue("10s")   Duration shutdownTimeout
+) {}
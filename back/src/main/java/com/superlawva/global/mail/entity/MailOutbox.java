@@ -0,0 +1,63 @@
+package com.superlawva.global.mail.entity;
+
+import com.superlawva.global.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (transactional outbox)
+ * - 업무 트랜잭션 안에서 INSERT, 커밋 후 MailDispatcher 가 발송하고 삭제
+ * - 실패 시 nextAttemptAt 을 뒤로 미뤄 재시도, maxAttempts 를 넘으면 FAILED 로 남김
+ */
+@Entity
+@Table(name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_due", columnList = "status, nextAttemptAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox {
+
+    public enum Status { PENDING, SENDING, FAILED }
+
+    @Id @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob @Column(nullable = false, columnDefinition = "TEXT")
+    private String html;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;   // PENDING: 발송 가능 시각, SENDING: 점유 만료 시각
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    /* ---------- 팩터리 ---------- */
+
+    public static MailOutbox of(String to, String subject, String html) {
+        MailOutbox m = new MailOutbox();
+        m.recipient = to;
+        m.subject = subject;
+        m.html = html;
+        m.status = Status.PENDING;
+        m.createdAt = LocalDateTime.now();
+        m.nextAttemptAt = m.createdAt;
+        return m;
+    }
+}
@@ -0,0 +1,54 @@
+package com.superlawva.global.mail.repository;
+
+import com.superlawva.global.mail.entity.MailOutbox;
+import com.superlawva.global.mail.entity.MailOutbox.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /* 발송 가능한 행 (PENDING 이거나 점유가 만료된 SENDING) */
+    @Query("select m.id from MailOutbox m where m.status <> :failed and m.nextAttemptAt <= :now order by m.nextAttemptAt")
+    List<Long> findDueIds(@Param("failed") Status failed, @Param("now") LocalDateTime now, Pageable page);
+
+    default List<Long> findDueIds(LocalDateTime now, Pageable page) {
+        return findDueIds(Status.FAILED, now, page);
+    }
+
+    /* 조건부 점유 — 1 이면 이 워커가 가져감 (다른 노드와 경쟁해도 한 곳만 성공) */
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m
+               set m.status = :sending, m.nextAttemptAt = :leaseUntil, m.attempts = m.attempts + 1
+             where m.id = :id and m.status <> :failed and m.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("sending") Status sending, @Param("failed") Status failed);
+
+    default int claim(Long id, LocalDateTime now, LocalDateTime leaseUntil) {
+        return claim(id, now, leaseUntil, Status.SENDING, Status.FAILED);
+    }
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update MailOutbox m
+               set m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error
+             where m.id = :id
+            """)
+    int reschedule(@Param("id") Long id, @Param("status") Status status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MailOutbox m where m.id = :id")
+    int deleteSent(@Param("id") Long id);
+}
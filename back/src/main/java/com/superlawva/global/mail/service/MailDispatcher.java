@@ -0,0 +1,205 @@
+package com.superlawva.global.mail.service;
+
+import com.superlawva.global.mail.MailSender;
+import com.superlawva.global.mail.config.MailDispatchProperties;
+import com.superlawva.global.mail.entity.MailOutbox;
+import com.superlawva.global.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * mail_outbox 발송기
+ * - poller 스레드가 발송 가능한 행을 조건부 UPDATE 로 점유(lease)해 워커 큐에 넣음
+ * - 워커는 스레드마다 SMTP 연결을 하나 유지하며 재사용, idleTimeout 동안 일이 없으면 닫음
+ * - 워커의 큐 대기는 짧게 끊어서 종료 시 idleTimeout 만큼 기다리지 않음
+ * - 성공 → 행 삭제, 실패 → 지수 backoff(+jitter) 로 재시도 예약, maxAttempts 초과 → FAILED
+ * - 발송 도중 죽으면 lease 만료 후 다시 점유되므로 최소 1회 발송 (드물게 중복 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher implements SmartLifecycle {
+
+    private static final int ERROR_MAX = 500;
+    private static final long IDLE_POLL_MS = 1_000;      // 종료 확인 간격 (poison pill 이 못 들어간 경우 대비)
+    private static final Long STOP = -1L;                // 워커 종료 신호 (poison pill)
+
+    private final MailOutboxRepository repo;
+    private final MailSender sender;
+    private final MailDispatchProperties props;
+
+    private final AtomicInteger sent   = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private BlockingQueue<Long> work;
+    private ExecutorService workers;
+    private Thread poller;
+    private volatile boolean running;
+
+    /** 새 메일이 커밋됨 → poller 를 바로 깨움 */
+    public void wakeup() {
+        Thread p = poller;
+        if (p != null) LockSupport.unpark(p);
+    }
+
+    /* -------- poller -------- */
+
+    private void pollLoop() {
+        long intervalNanos = props.pollInterval().toNanos();
+        while (running) {
+            try {
+                if (work.remainingCapacity() >= props.batchSize()) claimDue();
+            } catch (RuntimeException e) {
+                log.error("mail_outbox 조회 실패", e);
+            }
+            LockSupport.parkNanos(this, intervalNanos);
+        }
+    }
+
+    private void claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(props.lease());
+        List<Long> due = repo.findDueIds(now, PageRequest.of(0, props.batchSize()));
+        for (Long id : due) {
+            if (repo.claim(id, now, leaseUntil) == 1 && !work.offer(id)) {
+                break;                                    // 큐가 찼으면 lease 만료 후 다시 점유됨
+            }
+        }
+    }
+
+    /* -------- worker -------- */
+
+    private void workLoop() {
+        MailSender.Connection conn = null;
+        long idleNanos = props.idleTimeout().toNanos();
+        long pollMs = Math.min(IDLE_POLL_MS, props.idleTimeout().toMillis());
+        long lastUsed = System.nanoTime();
+        try {
+            while (true) {
+                Long id = work.poll(pollMs, TimeUnit.MILLISECONDS);
+                if (STOP.equals(id)) break;
+                if (id == null) {
+                    if (!running) break;
+                    if (conn != null && System.nanoTime() - lastUsed >= idleNanos) {
+                        conn = close(conn);                   // 한동안 일이 없음 → 연결 반납
+                    }
+                    continue;
+                }
+                MailOutbox mail = repo.findById(id).orElse(null);
+                if (mail == null) continue;
+
+                try {
+                    if (conn == null || !conn.isOpen()) conn = sender.open();
+                    conn.send(mail.getRecipient(), mail.getSubject(), mail.getHtml());
+                    repo.deleteSent(id);
+                    sent.incrementAndGet();
+                } catch (RuntimeException e) {
+                    conn = close(conn);                   // 연결 상태를 알 수 없으므로 다음 메일은 새 연결로
+                    retryLater(mail, e);
+                }
+                lastUsed = System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(conn);
+        }
+    }
+
+    private void retryLater(MailOutbox mail, RuntimeException e) {
+        String error = e.getCause() == null ? e.getMessage() : e.getCause().toString();
+        if (error != null && error.length() > ERROR_MAX) error = error.substring(0, ERROR_MAX);
+
+        if (mail.getAttempts() >= props.maxAttempts()) {
+            failed.incrementAndGet();
+            log.error("메일 발송 포기 (id={}, attempts={})", mail.getId(), mail.getAttempts(), e);
+            repo.reschedule(mail.getId(), MailOutbox.Status.FAILED, LocalDateTime.now(), error);
+            return;
+        }
+        Duration backoff = backoff(mail.getAttempts());
+        log.warn("메일 발송 실패 (id={}, attempts={}), {}s 후 재시도: {}",
+                mail.getId(), mail.getAttempts(), backoff.toSeconds(), error);
+        repo.reschedule(mail.getId(), MailOutbox.Status.PENDING, LocalDateTime.now().plus(backoff), error);
+    }
+
+    /** initialBackoff * 2^(attempts-1), maxBackoff 상한, ±20% jitter */
+    private Duration backoff(int attempts) {
+        long base = props.initialBackoff().toMillis() << Math.min(20, Math.max(0, attempts - 1));
+        long capped = Math.min(base, props.maxBackoff().toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private static MailSender.Connection close(MailSender.Connection conn) {
+        if (conn != null) conn.close();
+        return null;
+    }
+
+    public int sentCount()   { return sent.get(); }
+    public int failedCount() { return failed.get(); }
+    public int queued()      { return work == null ? 0 : work.size(); }
+
+    /* -------- Lifecycle -------- */
+
+    @Override
+    public void start() {
+        if (!props.enabled()) return;
+
+        work = new ArrayBlockingQueue<>(props.batchSize() * 2);
+        AtomicInteger seq = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(props.workers(), r -> new Thread(r, "mail-worker-" + seq.incrementAndGet()));
+        running = true;
+        for (int i = 0; i < props.workers(); i++) workers.execute(this::workLoop);
+
+        poller = new Thread(this::pollLoop, "mail-outbox-poller");
+        poller.setDaemon(true);
+        poller.start();
+        log.info("메일 outbox 발송기 시작 (workers={}, batch={})", props.workers(), props.batchSize());
+    }
+
+    /**
+     * 이미 큐에 들어간 메일까지만 보내고 종료, 남은 행은 lease 만료 후 다음 기동(또는 다른 노드)에서 발송
+     * - 워커마다 STOP 을 큐 끝에 넣어 idle poll 중인 워커를 바로 깨움
+     */
+    @Override
+    public void stop() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(poller);
+        for (int i = 0; i < props.workers(); i++) {
+            if (!work.offer(STOP)) break;                 // 큐가 찼으면 워커가 비운 뒤 running=false 를 보고 종료
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(props.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+        poller = null;
+    }
+
+    @Override
+    public boolean isRunning() { return running; }
+
+    /** 웹 서버가 멈춘 뒤에 종료 */
+    @Override
+    public int getPhase() { return SmartLifecycle.DEFAULT_PHASE - 4096; }
+}
@@ -0,0 +1,48 @@
+package com.superlawva.global.mail.service;
+
+import com.superlawva.global.mail.MailSender;
+import com.superlawva.global.mail.config.MailDispatchProperties;
+import com.superlawva.global.mail.entity.MailOutbox;
+import com.superlawva.global.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메일 발송 요청 (outbox 적재)
+ * - 호출한 트랜잭션 안에서 mail_outbox 에 INSERT 만 하고 바로 반환 → SMTP 지연이 요청 / DB 커넥션을 잡지 않음
+ * - 커밋되면 MailDispatcher 를 깨워 즉시 발송 (롤백되면 메일도 나가지 않음)
+ * - mail.dispatch.enabled=false 이면 기존처럼 동기 발송
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository repo;
+    private final MailDispatcher dispatcher;
+    private final MailSender sender;
+    private final MailDispatchProperties props;
+
+    @Transactional
+    public void enqueue(String to, String subject, String html) {
+        if (!props.enabled()) {
+            sender.send(to, subject, html);
+            return;
+        }
+
+        repo.save(MailOutbox.of(to, subject, html));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeup();
+                }
+            });
+        } else {
+            dispatcher.wakeup();
+        }
+    }
+}
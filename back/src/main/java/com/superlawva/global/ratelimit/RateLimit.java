@@ -0,0 +1,37 @@
+package com.superlawva.global.ratelimit;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 요청 수 제한 (bucket 별 token bucket, 키 단위)
+ * 예) @RateLimit(bucket = "token-ip")
+ *     @RateLimit(bucket = "token-kakao", key = RateLimit.Key.PATH, name = "kakaoId")
+ *     @RateLimit(bucket = "email-addr",  key = RateLimit.Key.BODY, name = "email")
+ * bucket 의 용량 / 초당 충전량은 ratelimit.buckets.&lt;bucket&gt;.* 에서 설정
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(RateLimit.List.class)
+public @interface RateLimit {
+
+    String bucket();
+
+    Key key() default Key.IP;
+
+    /** PATH: path variable 이름, BODY: 요청 본문 프로퍼티 이름 */
+    String name() default "";
+
+    enum Key {
+        IP,     // 클라이언트 IP
+        PATH,   // path variable (RateLimitInterceptor)
+        BODY    // @RequestBody 프로퍼티 (RateLimitBodyAdvice, 역직렬화 직후)
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @interface List {
+        RateLimit[] value();
+    }
+}
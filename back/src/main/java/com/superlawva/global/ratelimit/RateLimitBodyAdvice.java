@@ -0,0 +1,42 @@
+package com.superlawva.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * @RateLimit(key = BODY) 처리 — @RequestBody 역직렬화 직후, 검증 / 컨트롤러 호출 전
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class RateLimitBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final TokenBucketLimiter limiter;
+
+    @Override
+    public boolean supports(MethodParameter param, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return param.hasMethodAnnotation(RateLimit.class) || param.hasMethodAnnotation(RateLimit.List.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage input, MethodParameter param, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        RateLimit[] limits = param.getMethod().getAnnotationsByType(RateLimit.class);
+        BeanWrapper bean = null;
+        for (RateLimit limit : limits) {
+            if (limit.key() != RateLimit.Key.BODY) continue;
+            if (bean == null) bean = PropertyAccessorFactory.forBeanPropertyAccess(body);
+            Object value = bean.getPropertyValue(limit.name());
+            limiter.acquire(limit.bucket(), value == null ? null : value.toString().toLowerCase());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,18 @@
+package com.superlawva.global.ratelimit;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String bucket;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String bucket, long waitNanos) {
+        super("요청이 너무 많습니다. (" + bucket + ")");
+        this.bucket = bucket;
+        this.retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,45 @@
+package com.superlawva.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * @RateLimit(key = IP / PATH) 처리 — 컨트롤러 진입 전
+ * 초과 시 RateLimitExceededException → RateLimitExceptionHandler 가 429 응답
+ * IP 키는 server.forward-headers-strategy=native 로 X-Forwarded-For 가 반영된 클라이언트 주소
+ * (proxy 뒤에서 설정이 빠지면 모든 클라이언트가 proxy IP 버킷 하나를 공유)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketLimiter limiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
+        if (!(handler instanceof HandlerMethod hm)) return true;
+        RateLimit[] limits = hm.getMethod().getAnnotationsByType(RateLimit.class);
+
+        for (RateLimit limit : limits) {
+            switch (limit.key()) {
+                case IP   -> limiter.acquire(limit.bucket(), req.getRemoteAddr());
+                case PATH -> limiter.acquire(limit.bucket(), pathVariable(req, limit.name()));
+                case BODY -> { }                            // RateLimitBodyAdvice
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String pathVariable(HttpServletRequest req, String name) {
+        Object vars = req.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return vars instanceof Map<?, ?> m ? ((Map<String, String>) m).get(name) : null;
+    }
+}
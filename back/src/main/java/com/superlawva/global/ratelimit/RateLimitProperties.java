@@ -0,0 +1,23 @@
+package com.superlawva.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * ratelimit.* 설정
+ * - buckets.&lt;name&gt;.capacity         : 연속으로 허용하는 최대 요청 수 (burst)
+ * - buckets.&lt;name&gt;.refill-per-second : 초당 회복되는 요청 수
+ * - 설정에 없는 bucket 은 제한하지 않음
+ */
+@ConfigurationProperties(prefix = "ratelimit")
+public record RateLimitProperties(
+        @DefaultValue("true")   boolean enabled,
+        @DefaultValue("100000") long maxKeys,       // bucket 당 추적하는 키 상한
+        @DefaultValue("10m")    Duration idleTtl,   // 이 시간 동안 요청이 없는 키는 제거 (= 가득 찬 상태로 복귀)
+        Map<String, Bucket> buckets
+) {
+    public record Bucket(int capacity, double refillPerSecond) {}
+}
@@ -0,0 +1,80 @@
+package com.superlawva.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free token bucket
+ * <p>
+ * 키마다 AtomicLong 하나(다음 토큰의 "이론적 도착 시각" TAT, nano)만 들고 CAS 로 갱신한다 (GCRA).
+ * 토큰 수 = (now + burst - TAT) / interval 과 같으므로 capacity / refill 의 token bucket 과 동일하게 동작하고,
+ * 별도의 충전 스레드나 lock 이 없다.
+ * 키 맵은 bucket 별 Caffeine 캐시로 크기 / 유휴 시간 제한.
+ */
+@Component
+public class TokenBucketLimiter {
+
+    private static final class Limiter {
+        final long intervalNanos;       // 토큰 1개 회복 시간
+        final long burstNanos;          // (capacity - 1) * interval
+        final Cache<String, AtomicLong> keys;
+
+        Limiter(RateLimitProperties.Bucket b, RateLimitProperties props) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / b.refillPerSecond());
+            this.burstNanos = intervalNanos * Math.max(0, b.capacity() - 1);
+            this.keys = Caffeine.newBuilder()
+                    .maximumSize(props.maxKeys())
+                    .expireAfterAccess(props.idleTtl())
+                    .build();
+        }
+
+        long tryAcquire(String key, long now) {
+            AtomicLong tat = keys.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+            while (true) {
+                long prev = tat.get();
+                long start = prev == Long.MIN_VALUE ? now : Math.max(prev, now);
+                long wait = start - burstNanos - now;
+                if (wait > 0) return wait;                              // 토큰 없음
+                if (tat.compareAndSet(prev, start + intervalNanos)) return 0;
+            }
+        }
+    }
+
+    private final RateLimitProperties props;
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public TokenBucketLimiter(RateLimitProperties props) {
+        this.props = props;
+        if (props.buckets() != null) {
+            props.buckets().forEach((name, b) -> {
+                if (b.capacity() > 0 && b.refillPerSecond() > 0) limiters.put(name, new Limiter(b, props));
+            });
+        }
+    }
+
+    /**
+     * 토큰 1개 사용
+     * @return 0 이면 허용, 양수면 다음 토큰까지 남은 시간(nano)
+     */
+    public long tryAcquire(String bucket, String key) {
+        return tryAcquire(bucket, key, System.nanoTime());
+    }
+
+    long tryAcquire(String bucket, String key, long now) {
+        if (!props.enabled() || key == null) return 0;
+        Limiter limiter = limiters.get(bucket);
+        return limiter == null ? 0 : limiter.tryAcquire(key, now);
+    }
+
+    /** tryAcquire 실패 시 예외 */
+    public void acquire(String bucket, String key) {
+        long wait = tryAcquire(bucket, key);
+        if (wait > 0) throw new RateLimitExceededException(bucket, wait);
+    }
+}
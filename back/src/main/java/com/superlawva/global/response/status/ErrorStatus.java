@@ -5,6 +5,11 @@ import lombok.Getter;
 @Getter
 public enum ErrorStatus {
     INVALID_OR_EXPIRED_TOKEN("INVALID_OR_EXPIRED_TOKEN", "JWT가 유효하지 않거나 만료되었습니다."),
+    INVALID_EVENT_PAYLOAD("INVALID_EVENT_PAYLOAD", "이벤트 요청 형식이 올바르지 않습니다."),
+    LOG_TARGET_NOT_FOUND("LOG_TARGET_NOT_FOUND", "종료할 세션 또는 페이지뷰가 없습니다."),
+    INVALID_LOG_QUERY("INVALID_LOG_QUERY", "조회 조건이 올바르지 않습니다."),
+    INVALID_USER_QUERY("INVALID_USER_QUERY", "회원 조회 조건이 올바르지 않습니다."),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
     // 추가적인 에러 상태를 여기에 정의할 수 있음
     ;
 
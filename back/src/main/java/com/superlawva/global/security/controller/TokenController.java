@@ -1,5 +1,6 @@
 package com.superlawva.global.security.controller;
 
+import com.superlawva.global.ratelimit.RateLimit;
 import com.superlawva.global.security.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +13,8 @@ public class TokenController {
 
     private final JwtUtil jwtUtil;
 
+    @RateLimit(bucket = "token-ip")
+    @RateLimit(bucket = "token-kakao", key = RateLimit.Key.PATH, name = "kakaoId")
     @GetMapping("/token/{kakaoId}")
     public String token(@PathVariable Long kakaoId) {
         return jwtUtil.generateToken(kakaoId);   // 과거 createToken → generateToken
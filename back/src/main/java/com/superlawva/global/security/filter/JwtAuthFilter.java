@@ -1,36 +1,52 @@
 package com.superlawva.global.security.filter;
 
-import com.superlawva.domain.user.entity.User;
-import com.superlawva.domain.user.repository.UserRepository;
 import com.superlawva.global.response.status.ErrorStatus; // [MOD] import ErrorStatus
+import com.superlawva.global.security.service.PrincipalCache;
 import com.superlawva.global.security.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
 
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;   // DB 조회 없이 email / role
 
-    private static final List<String> EXCLUDE_URLS = List.of(
+    // 토큰이 있는 요청의 검증 결과 (security.jwt.validation{result=success|failure})
+    private final Counter validated;
+    private final Counter rejected;
+
+    public JwtAuthFilter(JwtUtil jwtUtil, PrincipalCache principalCache, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.principalCache = principalCache;
+        this.validated = Counter.builder("security.jwt.validation").tag("result", "success").register(meterRegistry);
+        this.rejected  = Counter.builder("security.jwt.validation").tag("result", "failure").register(meterRegistry);
+    }
+
+    // prefix 로 제외하는 경로 ("/" 는 모든 경로의 prefix 라 따로 정확히 비교)
+    private static final List<String> EXCLUDE_PREFIXES = List.of(
             "/swagger-ui", "/swagger-resources", "/v3/api-docs",
-            "/oauth2", "/login", "/"
+            "/oauth2", "/login"
     );
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
-        return EXCLUDE_URLS.stream().anyMatch(path::startsWith);
+        if (path.equals("/")) return true;
+        for (String prefix : EXCLUDE_PREFIXES) {
+            if (path.startsWith(prefix)) return true;
+        }
+        return false;
     }
 
     @Override
@@ -46,7 +62,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtUtil.validate(token)) {
+        Long kakaoId = jwtUtil.verify(token);   // 검증 + kakaoId 추출을 한 번에 (캐시)
+        if (kakaoId == null) {
+            rejected.increment();
             // [MOD] ErrorStatus enum 사용
             ErrorStatus status = ErrorStatus.INVALID_OR_EXPIRED_TOKEN;
             sendError(res, HttpServletResponse.SC_UNAUTHORIZED,
@@ -54,10 +72,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        Long kakaoId = jwtUtil.extractKakaoId(token);
-        userRepository.findByKakaoId(kakaoId).ifPresent(user -> {
+        validated.increment();
+        req.setAttribute(JwtUtil.PRINCIPAL_ATTR, kakaoId);   // LoginArgumentResolver 에서 재사용
+        principalCache.get(kakaoId).ifPresent(p -> {
+            // hasRole("ADMIN") 등과 맞도록 ROLE_ 접두어 (role 이 없으면 권한 없음)
             var auth = new UsernamePasswordAuthenticationToken(
-                    user.getEmail(), null, List.of()
+                    p.email(), null,
+                    p.role() == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + p.role().name()))
             );
             SecurityContextHolder.getContext().setAuthentication(auth);
         });
@@ -1,6 +1,5 @@
 package com.superlawva.global.security.service;
 
-import com.superlawva.domain.user.entity.User;
 import com.superlawva.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -24,6 +23,7 @@ public class CustomOAuth2UserService
         implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepo;
+    private final PrincipalCache principals;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest req)
@@ -46,22 +46,24 @@ public class CustomOAuth2UserService
 
         String nickname = (String) profile.get("nickname");
 
-        /* 이메일: 없으면 가짜 */
+        /* 이메일: 없으면 가짜 (가입 시에만, 기존 회원은 이메일 유지) */
         String rawEmail = (String) account.get("email");
-        final String email = (rawEmail == null || rawEmail.isBlank())
-                ? "kakao_" + kakaoId + "@kakao.local"
-                : rawEmail;
+        String kakaoEmail = (rawEmail == null || rawEmail.isBlank()) ? null : rawEmail;
+        String email = kakaoEmail != null ? kakaoEmail : "kakao_" + kakaoId + "@kakao.local";
 
-        User user = userRepo.findByKakaoId(kakaoId)
-                .map(u -> { u.changeNickname(nickname); return u; })
-                .orElseGet(() -> userRepo.save(User.builder()
-                        .kakaoId(kakaoId)
-                        .email(email)
-                        .nickname(nickname)
-                        .build()));
+        /* 가입 / 변경을 한 문장으로 (변경 없으면 UPDATE 도 없음) */
+        if (userRepo.upsertKakao(kakaoId, email, kakaoEmail, nickname) > 1) {
+            principals.invalidate(kakaoId);   // 닉네임 / 이메일 변경 반영
+        }
+
+        // 캐시에 '없음' 이 남아 있으면 방금 가입한 것 → 비우고 다시 읽음 (트랜잭션 안이라 방금 쓴 행이 보임)
+        PrincipalCache.Principal principal = principals.get(kakaoId).orElseGet(() -> {
+            principals.invalidate(kakaoId);
+            return principals.get(kakaoId).orElseThrow();
+        });
 
         return new DefaultOAuth2User(
-                Set.of(new SimpleGrantedAuthority(user.getRole().name())),
+                Set.of(new SimpleGrantedAuthority(principal.role().name())),
                 attr,
                 "id");
     }
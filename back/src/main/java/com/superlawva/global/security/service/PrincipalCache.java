@@ -0,0 +1,57 @@
+package com.superlawva.global.security.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.superlawva.domain.user.entity.User;
+import com.superlawva.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * ▒ kakaoId → 인증 정보(email, role) 캐시 ▒
+ * - JwtAuthFilter 가 매 요청 users 를 조회하지 않도록 함
+ * - 없는 사용자도 Optional.empty() 로 캐시 → 가입/수정/삭제 시 invalidate 필수
+ * - TTL 은 invalidate 누락(다른 노드에서의 변경 등)에 대한 안전장치
+ */
+@Component
+public class PrincipalCache {
+
+    public record Principal(Long kakaoId, String email, User.Role role) {}
+
+    private final LoadingCache<Long, Optional<Principal>> principals;
+
+    public PrincipalCache(UserRepository userRepo,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build(kakaoId -> userRepo.findAuthByKakaoId(kakaoId)
+                        .map(v -> new Principal(v.getKakaoId(), v.getEmail(), v.getRole())));
+    }
+
+    public Optional<Principal> get(Long kakaoId) {
+        return principals.get(kakaoId);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 제거 (커밋 전 다른 요청이 옛 값을 다시 캐시하는 것 방지)
+     */
+    public void invalidate(Long kakaoId) {
+        if (kakaoId == null) return;
+        principals.invalidate(kakaoId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principals.invalidate(kakaoId);
+                }
+            });
+        }
+    }
+}
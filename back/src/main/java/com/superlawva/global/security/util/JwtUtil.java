@@ -1,25 +1,76 @@
 package com.superlawva.global.security.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.superlawva.global.diagnostics.event.JwtVerificationEvent;
+import com.superlawva.global.diagnostics.trace.RequestTrace;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
+    /** JwtAuthFilter 가 검증한 kakaoId 를 LoginArgumentResolver 로 넘기는 request attribute */
+    public static final String PRINCIPAL_ATTR = JwtUtil.class.getName() + ".KAKAO_ID";
+
     private static final String SECRET = "jwt-secret-key-very-secure-and-long-enough";
     private static final SecretKey KEY =
             Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
     private static final long EXPIRE_MS = Duration.ofHours(12).toMillis();
 
+    // JwtParser 는 불변 / thread-safe → 한 번만 생성
+    private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(KEY).build();
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /* 검증 통과한 토큰 (SHA-256 digest → kakaoId), 토큰 exp 시각에 만료 */
+    private record Verified(Long kakaoId, long expiresAtMs) {}
+
+    private final Cache<ByteBuffer, Verified> verified;
+    private final boolean traced;                                 // diagnostics.enabled
+
+    public JwtUtil(@Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                   @Value("${diagnostics.enabled:true}") boolean traced) {
+        this.traced = traced;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<ByteBuffer, Verified>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer k, Verified v, long now) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, v.expiresAtMs() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer k, Verified v, long now, long current) { return current; }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer k, Verified v, long now, long current) { return current; }
+                })
+                .build();
+    }
+
     // 기존 토큰 생성 로직
     public String generateToken(Long kakaoId) {
         Date now = new Date();
@@ -31,28 +82,64 @@ public class JwtUtil {
                 .compact();
     }
 
-    // 기존 검증 로직
-    public boolean validate(String jwt) {
+    /**
+     * 서명/만료 검증 후 kakaoId 반환, 유효하지 않으면 null
+     * - 같은 토큰은 만료 전까지 캐시에서 바로 반환 (HMAC 검증 + JSON 파싱은 토큰당 1회)
+     * - diagnostics.enabled 이면 소요 시간을 RequestTrace 에 누적, threshold 이상이면 JFR JwtVerificationEvent
+     */
+    public Long verify(String jwt) {
+        if (!StringUtils.hasText(jwt)) return null;
+        if (!traced) return verify(jwt, null);
+
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        long started = System.nanoTime();
+        Long kakaoId = verify(jwt, event);
+        RequestTrace.current().jwt(System.nanoTime() - started);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.valid = kakaoId != null;
+            event.commit();
+        }
+        return kakaoId;
+    }
+
+    private Long verify(String jwt, @Nullable JwtVerificationEvent event) {
+        ByteBuffer key = digest(jwt);
+        Verified v = verified.getIfPresent(key);
+        if (v != null && v.expiresAtMs() > System.currentTimeMillis()) {
+            if (event != null) event.cacheHit = true;
+            return v.kakaoId();
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(KEY)
-                    .build()
-                    .parseClaimsJws(jwt);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            Claims claims = PARSER.parseClaimsJws(jwt).getBody();
+            Long kakaoId = Long.valueOf(claims.getSubject());
+            long exp = claims.getExpiration() == null
+                    ? System.currentTimeMillis() + EXPIRE_MS
+                    : claims.getExpiration().getTime();
+            verified.put(key, new Verified(kakaoId, exp));
+            return kakaoId;
+        } catch (JwtException | IllegalArgumentException e) {   // NumberFormatException 포함
+            return null;
         }
     }
 
+    private static ByteBuffer digest(String jwt) {
+        return ByteBuffer.wrap(SHA256.get().digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // 기존 검증 로직
+    public boolean validate(String jwt) {
+        return verify(jwt) != null;
+    }
+
     // 기존 kakaoId 추출 로직
     public Long extractKakaoId(String jwt) {
-        String sub = Jwts.parserBuilder()
-                .setSigningKey(KEY)
-                .build()
-                .parseClaimsJws(jwt)
-                .getBody()
-                .getSubject();
-        return Long.valueOf(sub);
+        Long kakaoId = verify(jwt);
+        if (kakaoId == null) throw new JwtException("JWT가 유효하지 않거나 만료되었습니다.");
+        return kakaoId;
     }
 
     // [MOD] LoginArgumentResolver 등에서 직접 호출 가능하도록 추가
@@ -60,10 +147,11 @@ public class JwtUtil {
      * 토큰 유효성 검사 후 kakaoId(Long) 반환
      */
     public Long validateAndGetUserId(String jwt) {
-        if (!validate(jwt)) {
+        Long kakaoId = verify(jwt);
+        if (kakaoId == null) {
             throw new IllegalArgumentException("JWT가 유효하지 않거나 만료되었습니다.");
         }
-        return extractKakaoId(jwt);
+        return kakaoId;
     }
 
     // [MOD] 헤더 우선, 없으면 쿠키에서 토큰 추출하도록 추가된 메서드
@@ -28,6 +28,11 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
                                   org.springframework.web.bind.support.WebDataBinderFactory binder) {
 
         HttpServletRequest req = (HttpServletRequest) webRequest.getNativeRequest();
+        // JwtAuthFilter 가 이미 검증했다면 그 결과를 그대로 사용
+        if (req.getAttribute(JwtUtil.PRINCIPAL_ATTR) instanceof Long kakaoId) {
+            return kakaoId;
+        }
+
         // [MOD] JwtUtil#getJwtFromRequest 로 헤더 또는 쿠키에서 토큰 추출
         String token = jwtUtil.getJwtFromRequest(req);
 
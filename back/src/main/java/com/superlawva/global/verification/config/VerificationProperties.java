@@ -0,0 +1,22 @@
+package com.superlawva.global.verification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * verification.* 설정 (이메일 인증번호 저장소 / 정리)
+ */
+@ConfigurationProperties(prefix = "verification")
+public record VerificationProperties(
+        @DefaultValue("MEMORY") Store store,
+        @DefaultValue("true")   boolean writeThrough,     // MEMORY 일 때 DB 에도 기록 (재시작 시 복구용)
+        @DefaultValue("100000") long maxSize,             // 메모리 저장소 최대 건수
+        @DefaultValue("600000") long purgeIntervalMs,     // 만료 행 정리 주기 (메모리 저장소도 만료 후 이만큼 보관)
+        @DefaultValue("1000")   int purgeChunkSize,       // DELETE ... LIMIT n
+        @DefaultValue("50")     long purgePauseMs         // chunk 사이 대기 (다른 트랜잭션에 lock 양보)
+) {
+    public enum Store {
+        MEMORY,     // 조회는 메모리에서만 (Caffeine, 만료 시각 + purgeInterval 후 제거)
+        DATABASE    // 기존처럼 email_verification_token 조회
+    }
+}
@@ -1,16 +1,17 @@
 package com.superlawva.global.verification.entity;
 
+import com.superlawva.global.verification.store.VerificationCode;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Random;
 
 
 @Entity
+@Table(name = "email_verification_token",
+        indexes = @Index(name = "idx_email_verification_expires", columnList = "expiresAt"))   // 만료 purge 용
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EmailVerificationToken {
@@ -30,14 +31,23 @@ public class EmailVerificationToken {
 
     /* ---------- 팩터리 ---------- */
 
-    public static EmailVerificationToken issue(String email, Duration ttl) {
+    public static EmailVerificationToken of(VerificationCode c) {
         EmailVerificationToken t = new EmailVerificationToken();
-        t.email = email;
-        t.code  = String.format("%06d", new Random().nextInt(1_000_000));
-        t.expiresAt = LocalDateTime.now().plus(ttl);
-        t.verified  = false;
+        t.email = c.email();
+        t.apply(c);
         return t;
     }
 
+    /* 재발송 시 같은 행을 덮어씀 (email unique) */
+    public void apply(VerificationCode c) {
+        this.code = c.code();
+        this.expiresAt = c.expiresAt();
+        this.verified = c.verified();
+    }
+
+    public VerificationCode toCode() {
+        return new VerificationCode(email, code, expiresAt, verified);
+    }
+
     public void markVerified() { this.verified = true; }
 }
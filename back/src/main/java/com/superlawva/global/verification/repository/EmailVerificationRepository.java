@@ -2,16 +2,26 @@ package com.superlawva.global.verification.repository;
 
 import com.superlawva.global.verification.entity.EmailVerificationToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface EmailVerificationRepository
         extends JpaRepository<EmailVerificationToken, Long> {
 
-    Optional<EmailVerificationToken> findByEmailAndCode(String email, String code);
+    Optional<EmailVerificationToken> findByEmail(String email);
 
-    boolean existsByEmailAndVerifiedIsTrue(String email);
+    /* 메모리 저장소 복구용 (아직 유효한 것만) */
+    List<EmailVerificationToken> findByExpiresAtAfter(LocalDateTime time);
 
-    void deleteByExpiresAtBefore(LocalDateTime time);
+    /* 만료 행 일괄 삭제 — 엔티티 로딩 없이 한 번에 limit 건, chunk 마다 별도 트랜잭션 */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM email_verification_token WHERE expires_at < :time LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("time") LocalDateTime time, @Param("limit") int limit);
 }
@@ -1,54 +1,65 @@
 package com.superlawva.global.verification.service;
 
-import com.superlawva.global.mail.MailSender;
-import com.superlawva.global.verification.entity.EmailVerificationToken;
-import com.superlawva.global.verification.repository.EmailVerificationRepository;
+import com.superlawva.global.mail.service.MailOutboxService;
+import com.superlawva.global.verification.store.VerificationCode;
+import com.superlawva.global.verification.store.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
-import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class EmailVerificationService {
 
-    private final EmailVerificationRepository repo;
-    private final MailSender mail;
+    private final VerificationCodeStore store;   // 기본 메모리 (verification.store)
+    private final MailOutboxService mail;        // outbox 적재만, 발송은 MailDispatcher
+    private final VerificationPurgeJob purgeJob;
 
     private static final Duration TTL = Duration.ofMinutes(10);
 
     /* 인증 번호 발송 */
     public void send(String email) {
-        if (repo.existsByEmailAndVerifiedIsTrue(email)) return;   // 이미 인증됨
+        if (store.isVerified(email)) return;   // 이미 인증됨
 
-        EmailVerificationToken token = EmailVerificationToken.issue(email, TTL);
-        repo.save(token);
+        VerificationCode code = VerificationCode.issue(email, TTL);
+        store.put(code);
 
         String html = """
             <h3>[SuperLawVA] 이메일 인증번호</h3>
             <p>아래 숫자 6자리를 10분 안에 입력하세요.</p>
             <h1>%s</h1>
-            """.formatted(token.getCode());
+            """.formatted(code.code());
 
-        mail.send(email, "[SuperLawVA] 이메일 인증", html);
+        mail.enqueue(email, "[SuperLawVA] 이메일 인증", html);
     }
 
     /* 인증 번호 검증 */
     public void verify(String email, String code) {
-        EmailVerificationToken token = repo.findByEmailAndCode(email, code)
+        VerificationCode issued = store.find(email)
+                .filter(c -> matches(c.code(), code))
                 .orElseThrow(() -> new IllegalArgumentException("인증번호가 올바르지 않습니다."));
 
-        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (issued.isExpired()) {
             throw new IllegalStateException("인증번호가 만료되었습니다.");
         }
-        token.markVerified();   // dirty checking
+        store.markVerified(email);
     }
 
     /* 만료 토큰 정리 (스케줄러 호출용) */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanExpired() {
-        repo.deleteByExpiresAtBefore(LocalDateTime.now());
+        purgeJob.purge();
+    }
+
+    /* 상수 시간 비교 (응답 시간으로 자리수 추측 방지) */
+    private static boolean matches(String expected, String actual) {
+        return actual != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
     }
 }
@@ -0,0 +1,50 @@
+package com.superlawva.global.verification.service;
+
+import com.superlawva.global.verification.config.VerificationProperties;
+import com.superlawva.global.verification.repository.EmailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 인증번호 정리
+ * - DELETE ... LIMIT n 을 chunk 마다 별도 트랜잭션으로 (expires_at 인덱스 range scan)
+ * - 한 번에 긴 트랜잭션 / 대량 row lock 을 잡지 않도록 chunk 사이 purgePauseMs 대기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationPurgeJob {
+
+    private final VerificationProperties props;
+    private final EmailVerificationRepository repo;
+
+    @Scheduled(fixedDelayString = "${verification.purge-interval-ms:600000}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int chunk = Math.max(1, props.purgeChunkSize());
+        long total = 0;
+        int deleted;
+        do {
+            deleted = repo.deleteExpired(now, chunk);
+            total += deleted;
+            if (deleted == chunk && !pause()) break;
+        } while (deleted == chunk);
+
+        if (total > 0) log.info("만료 인증번호 {}건 삭제", total);
+    }
+
+    private boolean pause() {
+        if (props.purgePauseMs() <= 0) return true;
+        try {
+            Thread.sleep(props.purgePauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.superlawva.global.verification.store;
+
+import com.superlawva.global.verification.entity.EmailVerificationToken;
+import com.superlawva.global.verification.repository.EmailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * email_verification_token 테이블 저장소 (verification.store=DATABASE)
+ * - MEMORY 일 때도 write-through 대상으로 쓰이므로 항상 bean 으로 등록 (@Transactional 프록시 적용)
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository repo;
+
+    @Override
+    @Transactional
+    public void put(VerificationCode code) {
+        repo.findByEmail(code.email()).ifPresentOrElse(
+                t -> t.apply(code),
+                () -> repo.save(EmailVerificationToken.of(code)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VerificationCode> find(String email) {
+        return repo.findByEmail(email).map(EmailVerificationToken::toCode);
+    }
+
+    @Override
+    @Transactional
+    public void markVerified(String email) {
+        repo.findByEmail(email).ifPresent(EmailVerificationToken::markVerified);   // dirty checking
+    }
+
+    /* since 이후 만료(예정)인 인증번호 전체 (메모리 저장소 복구용) */
+    @Transactional(readOnly = true)
+    public List<VerificationCode> findExpiringAfter(LocalDateTime since) {
+        return repo.findByExpiresAtAfter(since).stream()
+                .map(EmailVerificationToken::toCode)
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.superlawva.global.verification.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.superlawva.global.verification.config.VerificationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 메모리 인증번호 저장소 (verification.store=MEMORY, 기본값)
+ * - Caffeine 가변 만료(타이머 휠) → 항목별 expiresAt + purgeInterval 에 O(1) 로 제거
+ *   (DB 처럼 만료 후에도 정리 전까지 남겨 두어 verify 가 "만료" 로 응답)
+ * - 조회는 MySQL 을 거치지 않음
+ * - writeThrough=true 이면 쓰기를 DB 저장소에도 반영하고, 기동 시 아직 보관 중인 행을 다시 읽어 옴
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "MEMORY", matchIfMissing = true)
+public class MemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final Cache<String, VerificationCode> codes;
+    private final DatabaseVerificationCodeStore durable;          // writeThrough 가 아니면 null
+    private final Duration retention;
+
+    public MemoryVerificationCodeStore(VerificationProperties props,
+                                       DatabaseVerificationCodeStore durable) {
+        this.retention = Duration.ofMillis(props.purgeIntervalMs());
+        this.codes = Caffeine.newBuilder()
+                .maximumSize(props.maxSize())
+                .expireAfter(new Expiry<String, VerificationCode>() {
+                    @Override
+                    public long expireAfterCreate(String email, VerificationCode c, long now) {
+                        return remaining(c);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, VerificationCode c, long now, long current) {
+                        return remaining(c);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, VerificationCode c, long now, long current) {
+                        return current;
+                    }
+                })
+                .build();
+        this.durable = props.writeThrough() ? durable : null;
+    }
+
+    private long remaining(VerificationCode c) {
+        return Math.max(0, Duration.between(LocalDateTime.now(), c.expiresAt().plus(retention)).toNanos());
+    }
+
+    @Override
+    public void put(VerificationCode code) {
+        if (durable != null) durable.put(code);
+        codes.put(code.email(), code);
+    }
+
+    @Override
+    public Optional<VerificationCode> find(String email) {
+        return Optional.ofNullable(codes.getIfPresent(email));
+    }
+
+    @Override
+    public void markVerified(String email) {
+        if (durable != null) durable.markVerified(email);
+        codes.asMap().computeIfPresent(email, (k, c) -> c.markVerified());
+    }
+
+    /* write-through 인 경우 재시작 전 발급된 인증번호 복구 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (durable == null) return;
+        durable.findExpiringAfter(LocalDateTime.now().minus(retention)).forEach(c -> codes.put(c.email(), c));
+        log.info("인증번호 메모리 저장소 복구 {}건", codes.estimatedSize());
+    }
+}
@@ -0,0 +1,26 @@
+package com.superlawva.global.verification.store;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 인증번호 한 건 (저장소 공용 값 객체)
+ */
+public record VerificationCode(String email, String code, LocalDateTime expiresAt, boolean verified) {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public static VerificationCode issue(String email, Duration ttl) {
+        return new VerificationCode(email, String.format("%06d", RANDOM.nextInt(1_000_000)),
+                LocalDateTime.now().plus(ttl), false);
+    }
+
+    public VerificationCode markVerified() {
+        return new VerificationCode(email, code, expiresAt, true);
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package com.superlawva.global.verification.store;
+
+import java.util.Optional;
+
+/**
+ * 인증번호 저장소 (verification.store 로 구현 선택)
+ * - 이메일당 최신 1건만 유지 (재발송 시 덮어씀)
+ */
+public interface VerificationCodeStore {
+
+    void put(VerificationCode code);
+
+    Optional<VerificationCode> find(String email);
+
+    void markVerified(String email);
+
+    default boolean isVerified(String email) {
+        return find(email).map(VerificationCode::verified).orElse(false);
+    }
+}
@@ -0,0 +1,44 @@
+package com.superlawva.domain.log.dto;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.superlawva.domain.log.dto.EventMeta.FormMeta;
+import com.superlawva.domain.log.dto.EventMeta.ScrollMeta;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRequestDTOTest {
+
+    // application.yml 의 spring.jackson.* 와 같은 설정
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_MISSING_EXTERNAL_TYPE_ID_PROPERTY, false);
+
+    @Test
+    void ignoresClientSuppliedSampleRate() throws Exception {
+        EventRequestDTO e = MAPPER.readValue("""
+                {"type":"scroll","sessionId":1,"viewId":2,"sampleRate":0.01,"meta":{"scroll_percent":40}}
+                """, EventRequestDTO.class);
+
+        assertThat(e.sampleRate()).isNull();
+        assertThat(e.weight()).isEqualTo(1);
+        assertThat(e.meta()).isEqualTo(new ScrollMeta(40));
+    }
+
+    @Test
+    void serverSampleRateIsStillSerialized() throws Exception {
+        EventRequestDTO e = new EventRequestDTO("scroll", null, null, 1L, 2L, null, new ScrollMeta(40), null, null)
+                .withSampleRate(0.25f);
+
+        assertThat(MAPPER.writeValueAsString(e)).contains("\"sampleRate\":0.25");
+    }
+
+    @Test
+    void missingFormNumbersStayNull() throws Exception {
+        EventRequestDTO e = MAPPER.readValue("""
+                {"type":"form","sessionId":1,"viewId":2,"meta":{"form_name":"login","success":false}}
+                """, EventRequestDTO.class);
+
+        assertThat(e.meta()).isEqualTo(new FormMeta("login", false, null, null));
+    }
+}
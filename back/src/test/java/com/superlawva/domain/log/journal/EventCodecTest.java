@@ -0,0 +1,112 @@
+package com.superlawva.domain.log.journal;
+
+import com.superlawva.domain.log.dto.EventMeta;
+import com.superlawva.domain.log.dto.EventMeta.*;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCodecTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 6, 5, 12, 0, 0, 123_456_789);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripAllMetaTypes() {
+        List<EventRequestDTO> events = List.of(
+                event("click",  new ClickMeta(10, 20, 2, 150, "button.submit")),
+                event("error",  new ErrorMeta("TypeError: 한글 메시지", "/contract")),
+                event("hover",  new HoverMeta("a.link", 800)),
+                event("scroll", new ScrollMeta(75)),
+                event("form",   new FormMeta("login", true, 200, 35)),
+                event("form",   new FormMeta("login", false, null, null)),
+                event("input",  new InputMeta("email", "blur")),
+                event("navi",   new NaviMeta("/home", "/contract")),
+                new EventRequestDTO("unknown", null, null, null, null, null, null, null, null));
+
+        for (EventRequestDTO e : events) {
+            assertThat(decode(encode(e))).isEqualTo(e);
+        }
+    }
+
+    @Test
+    void roundTripKnownTypeWithoutMeta() {
+        for (String type : List.of("click", "error", "hover", "scroll", "form", "input", "navi")) {
+            EventRequestDTO e = event(type, null);
+            ByteBuffer b = encode(e);
+            assertThat(decode(b)).isEqualTo(e);
+            assertThat(b.hasRemaining()).isFalse();
+        }
+    }
+
+    @Test
+    void roundTripNullStringsInMeta() {
+        EventRequestDTO e = event("navi", new NaviMeta(null, null));
+        assertThat(decode(encode(e))).isEqualTo(e);
+    }
+
+    @Test
+    void segmentRecordRoundTripAndCrcMismatch() throws Exception {
+        CRC32C crc = new CRC32C();
+        EventRequestDTO first  = event("scroll", new ScrollMeta(10));
+        EventRequestDTO second = event("click", new ClickMeta(1, 2, 1, 0, null));
+        byte[] a = toArray(encode(first));
+        byte[] b = toArray(encode(second));
+
+        int next, end;
+        try (JournalSegment seg = JournalSegment.open(dir, 0, 4096)) {
+            next = seg.write(0, a, a.length, crc);
+            end  = seg.write(next, b, b.length, crc);
+
+            assertThat(EventCodec.decode(seg.read(0, seg.lengthAt(0), crc))).isEqualTo(first);
+            assertThat(EventCodec.decode(seg.read(next, seg.lengthAt(next), crc))).isEqualTo(second);
+            assertThat(seg.scanEnd(crc)).isEqualTo(end);
+        }
+
+        // 두 번째 레코드 payload 1바이트 손상 → CRC 불일치로 read 는 null, 복구 시 끝은 첫 레코드 뒤
+        try (FileChannel ch = FileChannel.open(JournalSegment.pathOf(dir, 0), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            long pos = next + JournalSegment.HEADER;
+            ch.read(one, pos);
+            one.put(0, (byte) (one.get(0) ^ 1));
+            ch.write(one.rewind(), pos);
+        }
+        try (JournalSegment seg = JournalSegment.open(dir, 0, 4096)) {
+            assertThat(seg.read(0, a.length, crc)).isNotNull();
+            assertThat(seg.read(next, b.length, crc)).isNull();
+            assertThat(seg.scanEnd(crc)).isEqualTo(next);
+        }
+    }
+
+    private static EventRequestDTO event(String type, EventMeta meta) {
+        return new EventRequestDTO(type, "target", TIME, 1L, 2L, 3L, meta, "key-" + type, 0.5f);
+    }
+
+    private static ByteBuffer encode(EventRequestDTO e) {
+        ByteBuffer b = ByteBuffer.allocate(1024);
+        EventCodec.encode(e, b);
+        return b.flip();
+    }
+
+    private static EventRequestDTO decode(ByteBuffer b) {
+        return EventCodec.decode(b);
+    }
+
+    private static byte[] toArray(ByteBuffer b) {
+        byte[] bytes = new byte[b.remaining()];
+        b.get(bytes);
+        return bytes;
+    }
+}
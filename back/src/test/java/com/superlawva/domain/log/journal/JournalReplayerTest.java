@@ -0,0 +1,177 @@
+package com.superlawva.domain.log.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.superlawva.domain.log.config.JournalProperties;
+import com.superlawva.domain.log.dto.EventMeta.ScrollMeta;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import com.superlawva.domain.log.service.LogService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JournalReplayerTest {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @TempDir
+    Path dir;
+
+    private final List<EventRequestDTO> replayed = new CopyOnWriteArrayList<>();
+
+    @Test
+    void resumesFromCheckpointAfterRestart() {
+        JournalProperties props = props();
+        LogService logService = recordingLogService(0);
+
+        // 1차 기동: e1, e2 재생 후 checkpoint
+        EventJournal journal = new EventJournal(props);
+        journal.start();
+        JournalReplayer replayer = new JournalReplayer(journal, logService, props, MAPPER);
+        replayer.start();
+        assertThat(journal.append(List.of(event(1), event(2)))).isTrue();
+        await(() -> replayer.lagBytes() == 0 && replayed.size() == 2);
+        replayer.stop();
+        journal.stop();
+
+        // replayer 없이 e3 만 기록된 상태로 종료
+        journal = new EventJournal(props);
+        journal.start();
+        assertThat(journal.append(List.of(event(3)))).isTrue();
+        journal.stop();
+
+        // 재기동: checkpoint 이후인 e3 만 재생
+        replayed.clear();
+        journal = new EventJournal(props);
+        journal.start();
+        JournalReplayer restarted = new JournalReplayer(journal, logService, props, MAPPER);
+        restarted.start();
+        await(() -> restarted.lagBytes() == 0 && !replayed.isEmpty());
+        restarted.stop();
+        journal.stop();
+
+        assertThat(replayed).containsExactly(event(3));
+    }
+
+    @Test
+    void retriesFailedBatchBeforeAdvancingCheckpoint() {
+        JournalProperties props = props();
+        LogService logService = recordingLogService(2);   // 처음 두 번은 DB 실패
+
+        EventJournal journal = new EventJournal(props);
+        journal.start();
+        JournalReplayer replayer = new JournalReplayer(journal, logService, props, MAPPER);
+        replayer.start();
+        assertThat(journal.append(List.of(event(1), event(2)))).isTrue();
+        await(() -> replayer.lagBytes() == 0);
+        replayer.stop();
+        journal.stop();
+
+        assertThat(replayed).containsExactly(event(1), event(2));
+    }
+
+    @Test
+    void deadLettersPoisonedRecordAndReplaysTheRestOfTheBatch() throws Exception {
+        JournalProperties props = props();
+        EventRequestDTO poisoned = event(99);                // 없는 viewId → FK 위반
+        LogService logService = mock(LogService.class);
+        when(logService.handleEvents(anyList())).thenAnswer(inv -> {
+            List<EventRequestDTO> batch = inv.getArgument(0);
+            if (batch.contains(poisoned)) throw new DataIntegrityViolationException("FK page_views");
+            replayed.addAll(batch);
+            return LongStream.range(0, batch.size()).boxed().toList();
+        });
+
+        EventJournal journal = new EventJournal(props);
+        journal.start();
+        JournalReplayer replayer = new JournalReplayer(journal, logService, props, MAPPER);
+        replayer.start();
+        assertThat(journal.append(List.of(event(1), event(2), event(3), poisoned, event(4), event(5)))).isTrue();
+        await(() -> replayer.lagBytes() == 0);
+        replayer.stop();
+        journal.stop();
+
+        assertThat(replayed).containsExactly(event(1), event(2), event(3), event(4), event(5));
+        assertThat(replayer.deadLettered()).isEqualTo(1);
+        List<String> lines = Files.readAllLines(dir.resolve(JournalReplayer.DEAD_LETTER));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"eventKey\":\"key-99\"", "FK page_views");
+    }
+
+    @Test
+    void doesNotDeadLetterWhileDatabaseIsDown() {
+        JournalProperties props = props();
+        AtomicInteger remaining = new AtomicInteger(5);     // replayMaxAttempts(3) 보다 오래 장애
+        LogService logService = mock(LogService.class);
+        when(logService.handleEvents(anyList())).thenAnswer(inv -> {
+            List<EventRequestDTO> batch = inv.getArgument(0);
+            if (remaining.getAndDecrement() > 0) throw new DataAccessResourceFailureException("connection refused");
+            replayed.addAll(batch);
+            return LongStream.range(0, batch.size()).boxed().toList();
+        });
+
+        EventJournal journal = new EventJournal(props);
+        journal.start();
+        JournalReplayer replayer = new JournalReplayer(journal, logService, props, MAPPER);
+        replayer.start();
+        assertThat(journal.append(List.of(event(1), event(2), event(3)))).isTrue();
+        await(() -> replayer.lagBytes() == 0);
+        replayer.stop();
+        journal.stop();
+
+        assertThat(replayed).containsExactly(event(1), event(2), event(3));
+        assertThat(replayer.deadLettered()).isZero();
+        assertThat(dir.resolve(JournalReplayer.DEAD_LETTER)).doesNotExist();
+    }
+
+    private JournalProperties props() {
+        return new JournalProperties(true, dir.toString(), 4096, 8, Duration.ofMillis(1), 500, 3,
+                Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    /** failures 번 예외를 던진 뒤부터 재생된 이벤트를 기록 */
+    private LogService recordingLogService(int failures) {
+        AtomicInteger remaining = new AtomicInteger(failures);
+        LogService logService = mock(LogService.class);
+        when(logService.handleEvents(anyList())).thenAnswer(inv -> {
+            List<EventRequestDTO> batch = inv.getArgument(0);
+            if (remaining.getAndDecrement() > 0) throw new IllegalStateException("DB down");
+            replayed.addAll(batch);
+            return LongStream.range(0, batch.size()).boxed().toList();
+        });
+        return logService;
+    }
+
+    private static EventRequestDTO event(long viewId) {
+        return new EventRequestDTO("scroll", "body", null, 1L, viewId, null, new ScrollMeta(50), "key-" + viewId, null);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("10초 안에 재생되지 않음").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
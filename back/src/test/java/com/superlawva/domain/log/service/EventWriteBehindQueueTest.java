@@ -0,0 +1,68 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.config.WriteBehindProperties;
+import com.superlawva.domain.log.config.WriteBehindProperties.Overflow;
+import com.superlawva.domain.log.dto.EventMeta.ScrollMeta;
+import com.superlawva.domain.log.dto.EventRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventWriteBehindQueueTest {
+
+    private final List<EventRequestDTO> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    void dropsOnlyThePoisonedEventsOfAFailedBatch() {
+        EventRequestDTO poisoned = event(99);               // 없는 viewId → FK 위반
+        LogService logService = mock(LogService.class);
+        when(logService.handleEvents(anyList())).thenAnswer(inv -> {
+            List<EventRequestDTO> batch = inv.getArgument(0);
+            if (batch.contains(poisoned)) throw new DataIntegrityViolationException("FK page_views");
+            written.addAll(batch);
+            return LongStream.range(0, batch.size()).boxed().toList();
+        });
+
+        EventWriteBehindQueue queue = new EventWriteBehindQueue(logService, props());
+        queue.start();
+        assertThat(queue.submit(List.of(event(1), event(2), event(3), poisoned, event(4), event(5)))).isEqualTo(6);
+        queue.stop();                                        // 남은 큐 drain
+
+        assertThat(written).containsExactly(event(1), event(2), event(3), event(4), event(5));
+        assertThat(queue.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failsTheWholeBatchOnTransientErrorWithoutSplitting() {
+        LogService logService = mock(LogService.class);
+        when(logService.handleEvents(anyList())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        EventWriteBehindQueue queue = new EventWriteBehindQueue(logService, props());
+        queue.start();
+        queue.submit(List.of(event(1), event(2), event(3), event(4)));
+        queue.stop();
+
+        assertThat(queue.failedCount()).isEqualTo(4);
+        verify(logService, times(1)).handleEvents(anyList());
+    }
+
+    /* 워커 1개, 큰 batch / 긴 flush 간격 → submit 한 이벤트가 한 배치로 묶임 */
+    private static WriteBehindProperties props() {
+        return new WriteBehindProperties(true, 100, 1, 100, 1_000, Overflow.BLOCK, 50, 5_000);
+    }
+
+    private static EventRequestDTO event(long viewId) {
+        return new EventRequestDTO("scroll", "body", null, 1L, viewId, null, new ScrollMeta(50), "key-" + viewId, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.superlawva.domain.log.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    @Test
+    void noFalseNegativesWithinWindow() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("key-" + i);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("key-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearFpp() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("key-" + i);
+
+        int hits = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) hits++;
+        }
+        assertThat(hits).isLessThan(2_000);                  // fpp 1% 의 2배 이내
+    }
+
+    @Test
+    void keysSurviveOneRotationAndExpireAfterTwo() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.001);
+        filter.put("a");
+
+        filter.rotate();                                     // a 는 previous 세대
+        assertThat(filter.mightContain("a")).isTrue();
+        filter.put("b");
+
+        filter.rotate();                                     // a 만료, b 는 previous
+        assertThat(filter.mightContain("a")).isFalse();
+        assertThat(filter.mightContain("b")).isTrue();
+
+        filter.rotate();
+        filter.rotate();                                     // 재사용된 세대도 비어 있음
+        assertThat(filter.mightContain("a")).isFalse();
+        assertThat(filter.mightContain("b")).isFalse();
+    }
+
+    @Test
+    void memoryIsFixedAtConstruction() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01);
+        long size = filter.sizeInBytes();
+        for (int i = 0; i < 100_000; i++) filter.put("key-" + i);
+        filter.rotate();
+        assertThat(filter.sizeInBytes()).isEqualTo(size);
+    }
+}
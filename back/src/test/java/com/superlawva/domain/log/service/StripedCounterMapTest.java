@@ -0,0 +1,80 @@
+package com.superlawva.domain.log.service;
+
+import com.superlawva.domain.log.service.StripedCounterMap.Drained;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterMapTest {
+
+    @Test
+    void drainReturnsCountsAndResets() {
+        StripedCounterMap<String> map = new StripedCounterMap<>(10);
+        map.add("a", "other", 2);
+        map.add("a", "other", 3);
+        map.add("b", "other", 1);
+
+        assertThat(map.drain(k -> false)).containsExactlyInAnyOrder(new Drained<>("a", 5L), new Drained<>("b", 1L));
+        assertThat(map.drain(k -> false)).isEmpty();         // 0 으로 리셋, 열린 키는 남음
+        assertThat(map.isEmpty()).isFalse();
+    }
+
+    @Test
+    void closedKeysAreRemovedOnDrain() {
+        StripedCounterMap<String> map = new StripedCounterMap<>(10);
+        map.add("closed", "other", 4);
+        map.add("open", "other", 1);
+
+        assertThat(map.drain("closed"::equals)).containsExactlyInAnyOrder(
+                new Drained<>("closed", 4L), new Drained<>("open", 1L));
+        assertThat(map.drain(k -> true)).isEmpty();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void keysBeyondMaxGoToOverflowKey() {
+        StripedCounterMap<String> map = new StripedCounterMap<>(2);
+        map.add("a", "other", 1);
+        map.add("b", "other", 1);
+        map.add("c", "other", 1);                            // 상한 → other (other 자체는 상한 예외)
+        map.add("d", "other", 2);
+        map.add("a", "other", 1);                            // 이미 있는 키는 그대로
+
+        assertThat(map.drain(k -> true)).containsExactlyInAnyOrder(
+                new Drained<>("a", 2L), new Drained<>("b", 1L), new Drained<>("other", 3L));
+    }
+
+    @Test
+    void restoreAddsBackIgnoringLimit() {
+        StripedCounterMap<String> map = new StripedCounterMap<>(1);
+        map.add("a", "other", 1);
+        map.restore("b", 5);
+
+        assertThat(map.drain(k -> true)).containsExactlyInAnyOrder(new Drained<>("a", 1L), new Drained<>("b", 5L));
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws Exception {
+        StripedCounterMap<Integer> map = new StripedCounterMap<>(100);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) map.add(i % 10, -1, 1);
+                });
+            }
+            for (Future<?> f : futures) f.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        List<Drained<Integer>> drained = map.drain(k -> true);
+        assertThat(drained).hasSize(10).allSatisfy(d -> assertThat(d.count()).isEqualTo(8_000L));
+    }
+}
@@ -0,0 +1,39 @@
+package com.superlawva.domain.user.controller;
+
+import com.superlawva.domain.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerTest {
+
+    private final UserService service = mock(UserService.class);
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new UserController(service))
+            .setControllerAdvice(new UserExceptionHandler())
+            .build();
+
+    @Test
+    void reversedCreatedRangeIsBadRequest() throws Exception {
+        mvc.perform(get("/users")
+                        .param("createdFrom", "2025-01-02T00:00:00")
+                        .param("createdTo", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_USER_QUERY"));
+
+        mvc.perform(get("/users/stream")
+                        .param("createdFrom", "2025-01-01T00:00:00")
+                        .param("createdTo", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).findPage(any(), any(), any());
+        verify(service, never()).tryAcquireStream();
+    }
+}
@@ -0,0 +1,83 @@
+package com.superlawva.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsAreStrictlyIncreasingPastSequenceOverflow() {
+        SnowflakeIdGenerator gen = new SnowflakeIdGenerator(7);
+        long prev = gen.nextId();
+        for (int i = 0; i < 20_000; i++) {                   // 한 ms 안의 4096 sequence 를 넘김
+            long id = gen.nextId();
+            assertThat(id).isGreaterThan(prev);
+            prev = id;
+        }
+    }
+
+    @Test
+    void encodesNodeIdAndTimestamp() {
+        long before = System.currentTimeMillis();
+        long id = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID).nextId();
+        long after = System.currentTimeMillis();
+
+        assertThat((id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(SnowflakeIdGenerator.MAX_NODE_ID);
+        assertThat(id).isPositive();
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isBetween(before, after + 1);   // overflow 시 +1ms
+        assertThat(SnowflakeIdGenerator.minIdAt(before)).isLessThanOrEqualTo(id);
+        assertThat(SnowflakeIdGenerator.minIdAt(after + 2)).isGreaterThan(id);
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        SnowflakeIdGenerator a = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator b = new SnowflakeIdGenerator(2);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(ids.add(a.nextId())).isTrue();
+            assertThat(ids.add(b.nextId())).isTrue();
+        }
+    }
+
+    @Test
+    void concurrentCallersGetUniqueIds() throws Exception {
+        SnowflakeIdGenerator gen = new SnowflakeIdGenerator(3);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    long[] ids = new long[10_000];
+                    for (int i = 0; i < ids.length; i++) ids[i] = gen.nextId();
+                    return ids;
+                }));
+            }
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> f : futures) {
+                for (long id : f.get(10, TimeUnit.SECONDS)) all.add(id);
+            }
+            assertThat(all).hasSize(8 * 10_000);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
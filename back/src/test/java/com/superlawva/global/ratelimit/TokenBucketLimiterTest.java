@@ -0,0 +1,119 @@
+package com.superlawva.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketLimiterTest {
+
+    private static final long SEC = TimeUnit.SECONDS.toNanos(1);
+    private static final long T0  = 1_000 * SEC;             // 임의의 nanoTime 기준점
+
+    @Test
+    void allowsBurstOfCapacityThenRejects() {
+        TokenBucketLimiter limiter = limiter(5, 1);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("api", "k", T0)).isZero();
+        }
+        assertThat(limiter.tryAcquire("api", "k", T0)).isEqualTo(SEC);     // 다음 토큰까지 1초
+        assertThat(limiter.tryAcquire("api", "other", T0)).isZero();        // 키별로 독립
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucketLimiter limiter = limiter(2, 4);                          // 250ms 마다 1개
+        long interval = SEC / 4;
+
+        assertThat(limiter.tryAcquire("api", "k", T0)).isZero();
+        assertThat(limiter.tryAcquire("api", "k", T0)).isZero();
+        assertThat(limiter.tryAcquire("api", "k", T0 + interval - 1)).isEqualTo(1);
+
+        assertThat(limiter.tryAcquire("api", "k", T0 + interval)).isZero();
+        assertThat(limiter.tryAcquire("api", "k", T0 + interval)).isEqualTo(interval);
+
+        // 오래 쉬어도 capacity 이상 쌓이지 않음
+        long later = T0 + 60 * SEC;
+        assertThat(limiter.tryAcquire("api", "k", later)).isZero();
+        assertThat(limiter.tryAcquire("api", "k", later)).isZero();
+        assertThat(limiter.tryAcquire("api", "k", later)).isEqualTo(interval);
+    }
+
+    @Test
+    void rejectedCallDoesNotConsumeToken() {
+        TokenBucketLimiter limiter = limiter(1, 1);
+
+        assertThat(limiter.tryAcquire("api", "k", T0)).isZero();
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("api", "k", T0 + SEC / 2)).isEqualTo(SEC / 2);
+        }
+        assertThat(limiter.tryAcquire("api", "k", T0 + SEC)).isZero();
+    }
+
+    @Test
+    void retryAfterRoundsWaitUpToWholeSeconds() {
+        assertThat(new RateLimitExceededException("api", 1).getRetryAfterSeconds()).isEqualTo(1);
+        assertThat(new RateLimitExceededException("api", SEC).getRetryAfterSeconds()).isEqualTo(1);
+        assertThat(new RateLimitExceededException("api", SEC + 1).getRetryAfterSeconds()).isEqualTo(2);
+
+        TokenBucketLimiter limiter = limiter(1, 0.5);                        // 2초마다 1개
+        limiter.acquire("api", "k");
+        assertThatThrownBy(() -> limiter.acquire("api", "k"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getBucket()).isEqualTo("api");
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void unknownBucketOrDisabledIsUnlimited() {
+        TokenBucketLimiter limiter = limiter(1, 1);
+        assertThat(limiter.tryAcquire("none", "k", T0)).isZero();
+        assertThat(limiter.tryAcquire("api", null, T0)).isZero();
+
+        TokenBucketLimiter disabled = new TokenBucketLimiter(new RateLimitProperties(
+                false, 1000, Duration.ofMinutes(10), Map.of("api", new RateLimitProperties.Bucket(1, 1))));
+        assertThat(disabled.tryAcquire("api", "k", T0)).isZero();
+        assertThat(disabled.tryAcquire("api", "k", T0)).isZero();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws Exception {
+        TokenBucketLimiter limiter = limiter(100, 0.001);                     // 테스트 중에는 사실상 충전 없음
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("api", "k", T0) == 0) allowed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    private static TokenBucketLimiter limiter(int capacity, double refillPerSecond) {
+        return new TokenBucketLimiter(new RateLimitProperties(true, 1000, Duration.ofMinutes(10),
+                Map.of("api", new RateLimitProperties.Bucket(capacity, refillPerSecond))));
+    }
+}